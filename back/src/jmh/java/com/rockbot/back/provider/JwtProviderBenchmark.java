@@ -0,0 +1,77 @@
+package com.rockbot.back.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT 발급/검증 처리량.
+ * legacy* 는 키 목록 도입 이전처럼 호출마다 키와 파서를 새로 만들고, keyRing* 은 JwtProvider를 그대로 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key";
+
+    private JwtProvider jwtProvider;
+    private String keyRingToken;
+    private String legacyToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(new JwtKeyProvider(SECRET_KEY, "default", ""));
+        keyRingToken = jwtProvider.create("benchmark", "벤치마크", 1, "ROLE_USER");
+        legacyToken = legacyCreate("benchmark");
+    }
+
+    @Benchmark
+    public String keyRingCreate() {
+        return jwtProvider.create("benchmark", "벤치마크", 1, "ROLE_USER");
+    }
+
+    @Benchmark
+    public Claims keyRingValidate() {
+        return jwtProvider.parse(keyRingToken);
+    }
+
+    @Benchmark
+    public String legacyCreate() {
+        return legacyCreate("benchmark");
+    }
+
+    @Benchmark
+    public String legacyValidate() {
+        Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(legacyToken).getBody().getSubject();
+    }
+
+    private String legacyCreate(String userId) {
+        Date expiredDate = Date.from(Instant.now().plus(1, ChronoUnit.HOURS));
+        Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .signWith(key, SignatureAlgorithm.HS256)
+                .setSubject(userId).setIssuedAt(new Date()).setExpiration(expiredDate)
+                .compact();
+    }
+
+}
@@ -1,14 +1,12 @@
 package com.rockbot.back.common;
 
-public class CertificationNumber {
+import java.security.SecureRandom;
 
-    public static String getCertificationNumber() {
-        String certificationNumber = "";
+public class CertificationNumber {
 
-        for (int count = 0; count < 4; count++) {
-            certificationNumber += (int) (Math.random() * 10);
-        }
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
 
-        return certificationNumber;
+    public static String getCertificationNumber() {
+        return String.format("%04d", SECURE_RANDOM.nextInt(10000));
     }
 }
@@ -9,8 +9,16 @@ public interface ResponseCode {
 
     String SIGN_IN_FAIL = "SF";
     String CERTIFICATION_FAIL = "CF";
+    String REFRESH_FAIL = "RF";
+    String NO_PERMISSION = "NP";
+
+    String NOT_EXISTED_TRAVEL_REQUEST = "NT";
+    String STATUS_CONFLICT = "SC";
 
     String MAIL_FAIL = "MF";
     String DATABASE_ERROR = "DBE";
+    String SERVER_BUSY = "SB";
+    String TOO_MANY_REQUESTS = "TMR";
+    String PAYLOAD_TOO_LARGE = "PTL";
     
 }
@@ -9,9 +9,17 @@ public interface ResponseMessage {
 
     String SIGN_IN_FAIL = "Login information mismatch.";
     String CERTIFICATION_FAIL = "Certification failed.";
+    String REFRESH_FAIL = "Refresh token is invalid.";
+    String NO_PERMISSION = "No Permission.";
+
+    String NOT_EXISTED_TRAVEL_REQUEST = "This travel request does not exist.";
+    String STATUS_CONFLICT = "Status has already been changed.";
 
     String MAIL_FAIL = "Mail send failed.";
     String DATABASE_ERROR = "Database error.";
+    String SERVER_BUSY = "Server is busy.";
+    String TOO_MANY_REQUESTS = "Too many requests.";
+    String PAYLOAD_TOO_LARGE = "Request body is too large.";
     
 
     
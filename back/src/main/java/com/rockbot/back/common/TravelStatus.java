@@ -0,0 +1,50 @@
+package com.rockbot.back.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 출장 요청 상태와 허용되는 전이 : Pending -> Approved / Rejected
+public enum TravelStatus {
+
+    PENDING("Pending"),
+    APPROVED("Approved"),
+    REJECTED("Rejected");
+
+    private final String value;
+
+    TravelStatus(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Set<TravelStatus> getNextStatuses() {
+        if (this == PENDING)
+            return Set.of(APPROVED, REJECTED);
+        return Set.of();
+    }
+
+    public boolean canTransitionTo(TravelStatus nextStatus) {
+        return getNextStatuses().contains(nextStatus);
+    }
+
+    // nextStatus로 전이할 수 있는 현재 상태 값 목록 (조건부 UPDATE의 WHERE 절에 사용)
+    public static List<String> getPreviousValues(TravelStatus nextStatus) {
+        List<String> previousValues = new ArrayList<>();
+        for (TravelStatus status : values())
+            if (status.canTransitionTo(nextStatus))
+                previousValues.add(status.value);
+        return previousValues;
+    }
+
+    public static TravelStatus from(String value) {
+        for (TravelStatus status : values())
+            if (status.value.equals(value))
+                return status;
+        return null;
+    }
+
+}
@@ -0,0 +1,262 @@
+package com.rockbot.back.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.oauth2.client.OAuth2ClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.DefaultAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 카카오, 네이버 토큰 발급과 사용자 정보 조회에 쓰는 HTTP 클라이언트.
+ * 연결 풀을 공유하고, 제공자별 연결/응답 시간 제한과 서킷 브레이커, 지연 시간 지표를 적용한다.
+ */
+@Configuration
+public class OAuthClientConfig {
+
+        private record ProviderTimeout(Timeout connectTimeout, Timeout readTimeout) {
+        }
+
+        @Bean
+        public HttpComponentsClientHttpRequestFactory oAuthClientHttpRequestFactory(
+                        OAuth2ClientProperties oAuth2ClientProperties,
+                        Environment environment,
+                        @Value("${oauth-client.max-connections:50}") int maxConnections,
+                        @Value("${oauth-client.max-connections-per-route:20}") int maxConnectionsPerRoute,
+                        @Value("${oauth-client.connect-timeout-ms:2000}") long connectTimeout,
+                        @Value("${oauth-client.read-timeout-ms:5000}") long readTimeout) {
+
+                // 제공자 URI의 호스트별 시간 제한 (oauth-client.<제공자>.connect-timeout-ms, read-timeout-ms)
+                Map<String, ProviderTimeout> timeouts = new HashMap<>();
+                getProviderHosts(oAuth2ClientProperties).forEach((host, provider) -> timeouts.put(host,
+                                new ProviderTimeout(
+                                                Timeout.ofMilliseconds(environment.getProperty(
+                                                                "oauth-client." + provider + ".connect-timeout-ms",
+                                                                Long.class, connectTimeout)),
+                                                Timeout.ofMilliseconds(environment.getProperty(
+                                                                "oauth-client." + provider + ".read-timeout-ms",
+                                                                Long.class, readTimeout)))));
+
+                ProviderTimeout defaultTimeout = new ProviderTimeout(
+                                Timeout.ofMilliseconds(connectTimeout), Timeout.ofMilliseconds(readTimeout));
+
+                PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder
+                                .create()
+                                .setMaxConnTotal(maxConnections)
+                                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                                .build();
+                connectionManager.setConnectionConfigResolver(route -> ConnectionConfig.custom()
+                                .setConnectTimeout(timeouts.getOrDefault(route.getTargetHost().getHostName(),
+                                                defaultTimeout).connectTimeout())
+                                .setTimeToLive(TimeValue.ofMinutes(5))
+                                .build());
+
+                HttpClient httpClient = HttpClients.custom()
+                                .setConnectionManager(connectionManager)
+                                .evictIdleConnections(TimeValue.ofSeconds(30))
+                                .build();
+
+                HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(
+                                httpClient);
+                requestFactory.setHttpContextFactory((method, uri) -> {
+                        HttpClientContext context = HttpClientContext.create();
+                        context.setRequestConfig(RequestConfig.custom()
+                                        .setResponseTimeout(timeouts.getOrDefault(uri.getHost(), defaultTimeout)
+                                                        .readTimeout())
+                                        .build());
+                        return context;
+                });
+
+                return requestFactory;
+        }
+
+        @Bean
+        public OAuthClientInterceptor oAuthClientInterceptor(
+                        OAuth2ClientProperties oAuth2ClientProperties,
+                        MeterRegistry meterRegistry,
+                        @Value("${oauth-client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                        @Value("${oauth-client.circuit-breaker.open-seconds:30}") long openSeconds) {
+
+                return new OAuthClientInterceptor(getProviderHosts(oAuth2ClientProperties), meterRegistry,
+                                failureThreshold, openSeconds * 1000);
+        }
+
+        // 사용자 정보 조회용 (OAuth2UserServiceImplement)
+        @Bean
+        public RestTemplate oAuthRestTemplate(
+                        HttpComponentsClientHttpRequestFactory oAuthClientHttpRequestFactory,
+                        OAuthClientInterceptor oAuthClientInterceptor) {
+
+                RestTemplate restTemplate = new RestTemplate(oAuthClientHttpRequestFactory);
+                restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+                restTemplate.getInterceptors().add(oAuthClientInterceptor);
+                return restTemplate;
+        }
+
+        // 인가 코드 → 액세스 토큰 교환용
+        @Bean
+        public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oAuthAccessTokenResponseClient(
+                        HttpComponentsClientHttpRequestFactory oAuthClientHttpRequestFactory,
+                        OAuthClientInterceptor oAuthClientInterceptor) {
+
+                RestTemplate restTemplate = new RestTemplate(List.of(
+                                new FormHttpMessageConverter(), new OAuth2AccessTokenResponseHttpMessageConverter()));
+                restTemplate.setRequestFactory(oAuthClientHttpRequestFactory);
+                restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+                restTemplate.getInterceptors().add(oAuthClientInterceptor);
+
+                DefaultAuthorizationCodeTokenResponseClient accessTokenResponseClient = new DefaultAuthorizationCodeTokenResponseClient();
+                accessTokenResponseClient.setRestOperations(restTemplate);
+                return accessTokenResponseClient;
+        }
+
+        // 호스트 → 제공자 ID (kauth.kakao.com → kakao 등)
+        private Map<String, String> getProviderHosts(OAuth2ClientProperties oAuth2ClientProperties) {
+
+                Map<String, String> providerHosts = new HashMap<>();
+                oAuth2ClientProperties.getProvider().forEach((provider, properties) -> {
+                        for (String uri : new String[] { properties.getTokenUri(), properties.getUserInfoUri() })
+                                if (uri != null)
+                                        providerHosts.put(URI.create(uri).getHost(), provider);
+                });
+                return providerHosts;
+        }
+}
+
+class OAuthClientInterceptor implements ClientHttpRequestInterceptor {
+
+        private final Map<String, String> providerHosts;
+        private final MeterRegistry meterRegistry;
+        private final int failureThreshold;
+        private final long openMillis;
+
+        private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+        OAuthClientInterceptor(Map<String, String> providerHosts, MeterRegistry meterRegistry,
+                        int failureThreshold, long openMillis) {
+                this.providerHosts = providerHosts;
+                this.meterRegistry = meterRegistry;
+                this.failureThreshold = failureThreshold;
+                this.openMillis = openMillis;
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+                        throws IOException {
+
+                String host = request.getURI().getHost();
+                String provider = providerHosts.getOrDefault(host, host);
+                CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(provider,
+                                key -> new CircuitBreaker());
+
+                // 제공자가 연속으로 실패하면 일정 시간 요청 스레드를 붙잡지 않고 바로 실패
+                if (!circuitBreaker.allowRequest()) {
+                        record(provider, "REJECTED", 0);
+                        throw new IOException("Circuit breaker is open for " + provider + ".");
+                }
+
+                long startTime = System.nanoTime();
+                boolean isCompleted = false;
+
+                try {
+
+                        ClientHttpResponse response = execution.execute(request, body);
+                        boolean isServerError = response.getStatusCode().is5xxServerError();
+
+                        if (isServerError)
+                                circuitBreaker.onFailure();
+                        else
+                                circuitBreaker.onSuccess();
+                        isCompleted = true;
+
+                        record(provider, isServerError ? "SERVER_ERROR" : "SUCCESS", System.nanoTime() - startTime);
+                        return response;
+
+                } catch (IOException exception) {
+                        circuitBreaker.onFailure();
+                        isCompleted = true;
+                        record(provider, "IO_ERROR", System.nanoTime() - startTime);
+                        throw exception;
+                } finally {
+                        // 그 밖의 예외도 실패로 기록 : half-open 시험 요청 표시가 남아 차단이 풀리지 않는 일이 없도록
+                        if (!isCompleted) {
+                                circuitBreaker.onFailure();
+                                record(provider, "ERROR", System.nanoTime() - startTime);
+                        }
+                }
+        }
+
+        private void record(String provider, String outcome, long nanos) {
+                Timer.builder("oauth.client.requests")
+                                .tag("provider", provider)
+                                .tag("outcome", outcome)
+                                .register(meterRegistry)
+                                .record(Duration.ofNanos(nanos));
+        }
+
+        private class CircuitBreaker {
+
+                private int failures;
+                private long openedAt = -1;
+                private boolean isTrialRunning;
+
+                private synchronized boolean allowRequest() {
+
+                        if (openedAt < 0)
+                                return true;
+
+                        // 열린 시간이 지나면 시험 요청 하나만 허용 (half-open)
+                        if (isTrialRunning || System.currentTimeMillis() - openedAt < openMillis)
+                                return false;
+
+                        isTrialRunning = true;
+                        return true;
+                }
+
+                private synchronized void onSuccess() {
+                        failures = 0;
+                        openedAt = -1;
+                        isTrialRunning = false;
+                }
+
+                private synchronized void onFailure() {
+                        failures++;
+                        if (isTrialRunning || failures >= failureThreshold)
+                                openedAt = System.currentTimeMillis();
+                        isTrialRunning = false;
+                }
+
+        }
+
+}
@@ -1,5 +1,6 @@
 package com.rockbot.back.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -9,6 +10,8 @@ import org.springframework.security.config.annotation.web.configurers.CsrfConfig
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
@@ -35,6 +38,11 @@ public class WebSecurityConfig {
         private final JwtAuthenticationFilter jwtAuthenticationFilter;
         private final DefaultOAuth2UserService oAuth2UserService;
         private final OAuth2SuccessHandler oAuth2SuccesHandler;
+        private final OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> oAuthAccessTokenResponseClient;
+
+        // refresh token 쿠키를 주고받으려면 자격 증명을 허용해야 하므로 출처를 명시
+        @Value("${cors.allowed-origins:http://localhost:3000}")
+        private String[] allowedOrigins;
 
         @Bean
         protected SecurityFilterChain configure(HttpSecurity httpSecurity) throws Exception {
@@ -49,6 +57,22 @@ public class WebSecurityConfig {
                                 .authorizeHttpRequests(request -> request
                                                 .requestMatchers(HttpMethod.PUT, "/api/v1/user/*/department")
                                                 .hasRole("ADMIN")
+                                                // /api/v1/auth/** 허용보다 먼저 선언해야 적용되는 관리자 전용 기능과 인증이 필요한 기능
+                                                .requestMatchers(HttpMethod.GET, "/api/v1/auth/all", "/api/v1/auth/users",
+                                                                "/api/v1/auth/users/search",
+                                                                "/api/v1/auth/travel-requests/export")
+                                                .hasRole("ADMIN")
+                                                .requestMatchers(HttpMethod.PUT, "/api/v1/auth/department",
+                                                                "/api/v1/auth/travel-requests/status",
+                                                                "/api/v1/auth/travel-requests/*/status")
+                                                .hasRole("ADMIN")
+                                                .requestMatchers(HttpMethod.POST, "/api/v1/auth/travel-requests/bulk")
+                                                .hasRole("ADMIN")
+                                                .requestMatchers(HttpMethod.POST, "/api/v1/auth/travel-requests",
+                                                                "/api/v1/auth/notifications/*/stream-token")
+                                                .hasAnyRole("USER", "ADMIN")
+                                                .requestMatchers(HttpMethod.PUT, "/api/v1/auth/notifications/*/read")
+                                                .hasAnyRole("USER", "ADMIN")
                                                 .requestMatchers("/api/v1/user/**").hasAnyRole("USER", "ADMIN")
                                                 .requestMatchers("/", "/api/v1/auth/**", "/api/v1/auth/travel-requests",
                                                                 "/oauth2/**", "/api/v1/auth/notifications")
@@ -60,6 +84,8 @@ public class WebSecurityConfig {
                                                 .authorizationEndpoint(
                                                                 endpoint -> endpoint.baseUri("/api/v1/auth/oauth2"))
                                                 .redirectionEndpoint(endpoint -> endpoint.baseUri("/oauth2/callback/*"))
+                                                .tokenEndpoint(endpoint -> endpoint
+                                                                .accessTokenResponseClient(oAuthAccessTokenResponseClient))
                                                 .userInfoEndpoint(endpoint -> endpoint.userService(oAuth2UserService))
                                                 .successHandler(oAuth2SuccesHandler))
                                 .exceptionHandling(exceptionHandling -> exceptionHandling
@@ -73,7 +99,9 @@ public class WebSecurityConfig {
         protected CorsConfigurationSource corsConfigurationSource() {
 
                 CorsConfiguration corsConfiguration = new CorsConfiguration();
-                corsConfiguration.addAllowedOrigin("*");
+                for (String allowedOrigin : allowedOrigins)
+                        corsConfiguration.addAllowedOrigin(allowedOrigin);
+                corsConfiguration.setAllowCredentials(true);
                 corsConfiguration.addAllowedMethod("*");
                 corsConfiguration.addAllowedHeader("*");
 
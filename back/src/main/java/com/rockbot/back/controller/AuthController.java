@@ -1,5 +1,7 @@
 package com.rockbot.back.controller;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -7,14 +9,21 @@ import java.util.Optional;
 import javax.management.Notification;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.rockbot.back.dto.request.auth.CheckCertificationRequestDto;
@@ -23,18 +32,50 @@ import com.rockbot.back.dto.request.auth.IdCheckRequestDto;
 import com.rockbot.back.dto.request.auth.NotificationRequestDto;
 import com.rockbot.back.dto.request.auth.SignInRequestDto;
 import com.rockbot.back.dto.request.auth.SignUpRequestDto;
+import com.rockbot.back.dto.request.notification.ReadNotificationListRequestDto;
+import com.rockbot.back.dto.request.travel.ChangeTravelRequestStatusRequestDto;
+import com.rockbot.back.dto.request.travel.PostTravelRequestListRequestDto;
+import com.rockbot.back.dto.request.travel.PostTravelRequestRequestDto;
+import com.rockbot.back.dto.request.travel.UpdateTravelRequestStatusRequestDto;
+import com.rockbot.back.dto.request.user.UpdateUserDepartmentRequestDto;
 import com.rockbot.back.dto.response.auth.CheckCertificationResponseDto;
 import com.rockbot.back.dto.response.auth.EmailCertificationResponseDto;
 import com.rockbot.back.dto.response.auth.IdCheckResponseDto;
+import com.rockbot.back.dto.response.auth.RefreshResponseDto;
 import com.rockbot.back.dto.response.auth.SignInResponseDto;
+import com.rockbot.back.dto.response.auth.SignOutResponseDto;
 import com.rockbot.back.dto.response.auth.SignUpResponseDto;
+import com.rockbot.back.dto.response.department.GetDepartmentListResponseDto;
+import com.rockbot.back.dto.response.notification.PostNotificationStreamTokenResponseDto;
+import com.rockbot.back.dto.response.notification.ReadNotificationListResponseDto;
+import com.rockbot.back.dto.response.travel.ChangeTravelRequestStatusResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelOverlapResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelRequestChangeListResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelRequestListResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelScheduleListResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelStatsResponseDto;
+import com.rockbot.back.dto.response.travel.PostTravelRequestListResponseDto;
+import com.rockbot.back.dto.response.travel.PostTravelRequestResponseDto;
+import com.rockbot.back.dto.response.travel.UpdateTravelRequestStatusResponseDto;
+import com.rockbot.back.dto.response.user.GetUserListResponseDto;
+import com.rockbot.back.dto.response.user.UpdateUserDepartmentResponseDto;
 import com.rockbot.back.entity.NotificationEntity; // 올바른 Notification 엔터티 임포트
 import com.rockbot.back.entity.TravelEntity;
 import com.rockbot.back.entity.UserEntity;
+import com.rockbot.back.provider.NotificationHubProvider;
+import com.rockbot.back.provider.OAuthUserCacheProvider;
+import com.rockbot.back.provider.PrincipalCacheProvider;
+import com.rockbot.back.provider.RefreshTokenProvider;
+import com.rockbot.back.provider.UserSearchIndexProvider;
 import com.rockbot.back.repository.NotificationRepository;
 import com.rockbot.back.repository.TravelRequestRepository;
 import com.rockbot.back.repository.UserRepository;
+import com.rockbot.back.repository.resultSet.UserListResultSet;
 import com.rockbot.back.service.AuthService;
+import com.rockbot.back.service.DepartmentService;
+import com.rockbot.back.service.NotificationService;
+import com.rockbot.back.service.TravelRequestService;
+import com.rockbot.back.service.UserService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +86,14 @@ import lombok.RequiredArgsConstructor;
 public class AuthController {
 
     private final AuthService authService;
+    private final UserService userService;
+    private final DepartmentService departmentService;
+    private final TravelRequestService travelRequestService;
+    private final NotificationService notificationService;
+    private final PrincipalCacheProvider principalCacheProvider;
+    private final OAuthUserCacheProvider oAuthUserCacheProvider;
+    private final UserSearchIndexProvider userSearchIndexProvider;
+    private final NotificationHubProvider notificationHubProvider;
 
     @Autowired
     private UserRepository userRepository;
@@ -90,10 +139,37 @@ public class AuthController {
         return response;
     }
 
-    // 가입회원 정보 띄우기
+    // refresh token은 HttpOnly 쿠키로만 주고받음
+    @PostMapping("/refresh")
+    public ResponseEntity<? super RefreshResponseDto> refresh(
+            @CookieValue(name = RefreshTokenProvider.COOKIE_NAME, required = false) String refreshToken) {
+        ResponseEntity<? super RefreshResponseDto> response = authService.refresh(refreshToken);
+        return response;
+    }
+
+    @PostMapping("/sign-out")
+    public ResponseEntity<? super SignOutResponseDto> signOut(
+            @CookieValue(name = RefreshTokenProvider.COOKIE_NAME, required = false) String refreshToken) {
+        ResponseEntity<? super SignOutResponseDto> response = authService.signOut(refreshToken);
+        return response;
+    }
+
+    // 가입회원 정보 띄우기 (비밀번호 제외, 대량 조회는 /users 사용)
     @GetMapping("/all")
-    public List<UserEntity> getAllUsers() {
-        return userRepository.findAll();
+    public List<UserListResultSet> getAllUsers() {
+        return userRepository.findAllByOrderByUserId();
+    }
+
+    // 가입회원 목록 페이지 조회
+    @GetMapping("/users")
+    public ResponseEntity<? super GetUserListResponseDto> getUserList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(required = false) String role) {
+        ResponseEntity<? super GetUserListResponseDto> response = userService.getUserList(cursor, size,
+                departmentId, role);
+        return response;
     }
 
     // 부서 변경 엔드포인트
@@ -108,6 +184,9 @@ public class AuthController {
             // 부서 ID 업데이트
             user.setDepartmentId(newDepartmentId);
             userRepository.save(user);
+            principalCacheProvider.invalidate(userId);
+            oAuthUserCacheProvider.invalidate(userId);
+            userSearchIndexProvider.put(user);
 
             return ResponseEntity.ok("부서가 성공적으로 변경되었습니다.");
         } catch (Exception e) {
@@ -115,6 +194,35 @@ public class AuthController {
         }
     }
 
+    // 가입회원 검색 (아이디, 이름, 이메일 부분 일치)
+    @GetMapping("/users/search")
+    public ResponseEntity<? super GetUserListResponseDto> searchUserList(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Integer departmentId) {
+        ResponseEntity<? super GetUserListResponseDto> response = userService.searchUserList(query, limit,
+                departmentId);
+        return response;
+    }
+
+    // 여러 사용자 부서 일괄 변경 (userIds 또는 fromDepartmentId 지정)
+    @PutMapping("/department")
+    public ResponseEntity<? super UpdateUserDepartmentResponseDto> updateUserDepartments(
+            @RequestBody @Valid UpdateUserDepartmentRequestDto requestBody) {
+        ResponseEntity<? super UpdateUserDepartmentResponseDto> response = userService
+                .updateUserDepartment(requestBody);
+        return response;
+    }
+
+    // 부서 목록 (ETag가 같으면 304)
+    @GetMapping("/departments")
+    public ResponseEntity<? super GetDepartmentListResponseDto> getDepartmentList(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ResponseEntity<? super GetDepartmentListResponseDto> response = departmentService
+                .getDepartmentList(ifNoneMatch);
+        return response;
+    }
+
     // 모든 출장 요청 목록 가져오기
     @GetMapping("/travel-requests")
     public ResponseEntity<List<TravelEntity>> getAllTravelRequests() {
@@ -122,23 +230,115 @@ public class AuthController {
         return ResponseEntity.ok(travelRequests);
     }
 
-    // 특정 출장 요청의 상태 업데이트
-    @PutMapping("/travel-requests/{requestId}/status")
-    public ResponseEntity<String> updateTravelRequestStatus(
-            @PathVariable Long requestId,
-            @RequestBody Map<String, String> request) {
-        Optional<TravelEntity> travelRequestOptional = travelRequestRepository.findById(requestId);
+    // 출장 신청 (본인 일정과 겹치는 출장이 있으면 응답에 함께 전달)
+    @PostMapping("/travel-requests")
+    public ResponseEntity<? super PostTravelRequestResponseDto> postTravelRequest(
+            @RequestBody @Valid PostTravelRequestRequestDto requestBody,
+            @AuthenticationPrincipal String userId) {
+        ResponseEntity<? super PostTravelRequestResponseDto> response = travelRequestService
+                .postTravelRequest(requestBody, userId);
+        return response;
+    }
 
-        if (!travelRequestOptional.isPresent()) {
-            return ResponseEntity.notFound().build();
-        }
+    // 출장 요청 일괄 등록 (과거 데이터 이관 등)
+    @PostMapping("/travel-requests/bulk")
+    public ResponseEntity<? super PostTravelRequestListResponseDto> postTravelRequestList(
+            @RequestBody @Valid PostTravelRequestListRequestDto requestBody) {
+        ResponseEntity<? super PostTravelRequestListResponseDto> response = travelRequestService
+                .postTravelRequestList(requestBody);
+        return response;
+    }
 
-        String newStatus = request.get("status");
-        TravelEntity travelRequest = travelRequestOptional.get();
-        travelRequest.setStatus(newStatus);
-        travelRequestRepository.save(travelRequest);
+    // 출장 요청 목록 페이지 조회 (상태, 부서, 사용자, 제출일 기간 필터)
+    @GetMapping("/travel-requests/list")
+    public ResponseEntity<? super GetTravelRequestListResponseDto> getTravelRequestList(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        ResponseEntity<? super GetTravelRequestListResponseDto> response = travelRequestService
+                .getTravelRequestList(cursor, size, status, departmentId, userId, fromDate, toDate);
+        return response;
+    }
 
-        return ResponseEntity.ok("출장 요청 상태가 업데이트되었습니다.");
+    // since 이후 생성되거나 상태가 바뀐 출장 요청 (응답의 nextCursor를 다음 since로 사용)
+    @GetMapping("/travel-requests/changes")
+    public ResponseEntity<? super GetTravelRequestChangeListResponseDto> getTravelRequestChangeList(
+            @RequestParam(defaultValue = "0") String since,
+            @RequestParam(defaultValue = "200") int size) {
+        ResponseEntity<? super GetTravelRequestChangeListResponseDto> response = travelRequestService
+                .getTravelRequestChangeList(since, size);
+        return response;
+    }
+
+    // 출장 요청 내보내기 (format : csv, ndjson)
+    @GetMapping("/travel-requests/export")
+    public ResponseEntity<?> exportTravelRequests(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        ResponseEntity<?> response = travelRequestService.exportTravelRequests(format, gzip, status, departmentId,
+                fromDate, toDate);
+        return response;
+    }
+
+    // 부서별 기간 내 출장자 목록 (includePending=false면 승인된 출장만)
+    @GetMapping("/travel-requests/schedules")
+    public ResponseEntity<? super GetTravelScheduleListResponseDto> getTravelScheduleList(
+            @RequestParam int departmentId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(defaultValue = "false") boolean includePending) {
+        ResponseEntity<? super GetTravelScheduleListResponseDto> response = travelRequestService
+                .getTravelScheduleList(departmentId, fromDate, toDate, includePending);
+        return response;
+    }
+
+    // 출장 신청 전 기간 중복 확인 (본인 일정 중복, 같은 부서 출장자)
+    @GetMapping("/travel-requests/overlaps")
+    public ResponseEntity<? super GetTravelOverlapResponseDto> getTravelOverlap(
+            @RequestParam String userId,
+            @RequestParam int departmentId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate) {
+        ResponseEntity<? super GetTravelOverlapResponseDto> response = travelRequestService
+                .getTravelOverlap(userId, departmentId, fromDate, toDate);
+        return response;
+    }
+
+    // 부서/월/상태별 출장 요청 건수 (month 형식 : yyyy-MM, 생략 시 전체 기간)
+    @GetMapping("/travel-requests/stats")
+    public ResponseEntity<? super GetTravelStatsResponseDto> getTravelStats(
+            @RequestParam(required = false) String month,
+            @RequestParam(required = false) Integer departmentId) {
+        ResponseEntity<? super GetTravelStatsResponseDto> response = travelRequestService.getTravelStats(month,
+                departmentId);
+        return response;
+    }
+
+    // 여러 출장 요청 일괄 승인/거절 (알림 저장 포함)
+    @PutMapping("/travel-requests/status")
+    public ResponseEntity<? super UpdateTravelRequestStatusResponseDto> updateTravelRequestsStatus(
+            @RequestBody @Valid UpdateTravelRequestStatusRequestDto requestBody) {
+        ResponseEntity<? super UpdateTravelRequestStatusResponseDto> response = travelRequestService
+                .updateTravelRequestStatus(requestBody);
+        return response;
+    }
+
+    // 특정 출장 요청의 상태 업데이트 (허용된 상태 전이만, 동시 변경 시 409)
+    @PutMapping("/travel-requests/{requestId}/status")
+    public ResponseEntity<? super ChangeTravelRequestStatusResponseDto> updateTravelRequestStatus(
+            @PathVariable Long requestId,
+            @RequestBody @Valid ChangeTravelRequestStatusRequestDto requestBody) {
+        ResponseEntity<? super ChangeTravelRequestStatusResponseDto> response = travelRequestService
+                .changeTravelRequestStatus(requestId, requestBody);
+        return response;
     }
 
     @PostMapping("/notifications")
@@ -148,7 +348,9 @@ public class AuthController {
             notification.setUserId(notificationRequest.getUserId());
             notification.setMessage(notificationRequest.getMessage());
             notification.setStatus("Unread");
+            notification.setNotificationDate(new Timestamp(System.currentTimeMillis()));
             notificationRepository.save(notification);
+            notificationHubProvider.publish(notification);
 
             return ResponseEntity.ok("알림이 저장되었습니다.");
         } catch (Exception e) {
@@ -157,6 +359,26 @@ public class AuthController {
         }
     }
 
+    // 알림 실시간 구독 (SSE) : 접속 시 미확인 알림을 backlog 이벤트로, 이후 알림은 notification 이벤트로 전달
+    // EventSource는 Authorization 헤더를 보낼 수 없으므로 stream-token으로 받은 짧은 토큰을 쿼리로 전달
+    @GetMapping(value = "/notifications/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> subscribeNotification(
+            @PathVariable String userId,
+            @RequestParam(value = "token", required = false) String token) {
+        ResponseEntity<?> response = notificationService.subscribeNotification(userId, token);
+        return response;
+    }
+
+    // 알림 스트림 접속 토큰 발급 (본인만)
+    @PostMapping("/notifications/{userId}/stream-token")
+    public ResponseEntity<? super PostNotificationStreamTokenResponseDto> postNotificationStreamToken(
+            @PathVariable String userId,
+            @AuthenticationPrincipal String principal) {
+        ResponseEntity<? super PostNotificationStreamTokenResponseDto> response = notificationService
+                .postNotificationStreamToken(userId, principal);
+        return response;
+    }
+
     @GetMapping("/notifications/{userId}")
     public ResponseEntity<List<NotificationEntity>> getUnreadNotifications(@PathVariable String userId) {
         try {
@@ -167,6 +389,17 @@ public class AuthController {
         }
     }
 
+    // 사용자의 알림 일괄 읽음 처리 (ID 목록 또는 기준 ID 이하 전체, 본인만), 남은 미확인 알림 수 반환
+    @PutMapping("/notifications/{userId}/read")
+    public ResponseEntity<? super ReadNotificationListResponseDto> readNotificationList(
+            @PathVariable String userId,
+            @RequestBody @Valid ReadNotificationListRequestDto requestBody,
+            @AuthenticationPrincipal String principal) {
+        ResponseEntity<? super ReadNotificationListResponseDto> response = notificationService
+                .readNotificationList(userId, requestBody, principal);
+        return response;
+    }
+
     @PutMapping("/notifications/{notificationId}")
     public ResponseEntity<?> markNotificationAsRead(@PathVariable Integer notificationId) {
         try {
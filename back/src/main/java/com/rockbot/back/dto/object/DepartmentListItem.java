@@ -0,0 +1,34 @@
+package com.rockbot.back.dto.object;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.rockbot.back.entity.DepartmentEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentListItem {
+
+    private int departmentId;
+    private String departmentName;
+
+    public DepartmentListItem(DepartmentEntity departmentEntity) {
+        this.departmentId = departmentEntity.getId();
+        this.departmentName = departmentEntity.getDepartmentName();
+    }
+
+    public static List<DepartmentListItem> getList(List<DepartmentEntity> departmentEntities) {
+        List<DepartmentListItem> list = new ArrayList<>();
+        for (DepartmentEntity departmentEntity : departmentEntities) {
+            DepartmentListItem departmentListItem = new DepartmentListItem(departmentEntity);
+            list.add(departmentListItem);
+        }
+        return list;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.rockbot.back.dto.object;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.rockbot.back.repository.resultSet.TravelRequestListResultSet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelRequestListItem {
+
+    private Long requestId;
+    private String userId;
+    private String name;
+    private int departmentId;
+    private String departmentName;
+    private String destination;
+    private LocalDate travelDate;
+    private LocalDate returnDate;
+    private String reason;
+    private String status;
+    private LocalDateTime submissionDate;
+    private Long version;
+
+    public TravelRequestListItem(TravelRequestListResultSet resultSet, String departmentName) {
+        this.requestId = resultSet.getRequestId();
+        this.userId = resultSet.getUserId();
+        this.name = resultSet.getName();
+        this.departmentId = resultSet.getDepartmentId();
+        this.departmentName = departmentName;
+        this.destination = resultSet.getDestination();
+        this.travelDate = resultSet.getTravelDate();
+        this.returnDate = resultSet.getReturnDate();
+        this.reason = resultSet.getReason();
+        this.status = resultSet.getStatus();
+        this.submissionDate = resultSet.getSubmissionDate();
+        this.version = resultSet.getVersion();
+    }
+
+    public static List<TravelRequestListItem> getList(List<? extends TravelRequestListResultSet> resultSets,
+            Map<Integer, String> departmentNames) {
+        List<TravelRequestListItem> list = new ArrayList<>();
+        for (TravelRequestListResultSet resultSet : resultSets) {
+            String departmentName = departmentNames.get(resultSet.getDepartmentId());
+            TravelRequestListItem travelRequestListItem = new TravelRequestListItem(resultSet, departmentName);
+            list.add(travelRequestListItem);
+        }
+        return list;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.rockbot.back.dto.object;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelRequestStatusResultItem {
+
+    private Long requestId;
+
+    // UPDATED, UNCHANGED, CONFLICT, NOT_FOUND
+    private String result;
+
+}
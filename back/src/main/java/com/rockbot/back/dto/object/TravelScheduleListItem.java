@@ -0,0 +1,52 @@
+package com.rockbot.back.dto.object;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.rockbot.back.provider.TravelScheduleProvider.TravelSchedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelScheduleListItem {
+
+    private Long requestId;
+    private String userId;
+    private String name;
+    private int departmentId;
+    private String departmentName;
+    private String destination;
+    private LocalDate travelDate;
+    private LocalDate returnDate;
+    private String status;
+
+    public TravelScheduleListItem(TravelSchedule schedule, String departmentName) {
+        this.requestId = schedule.requestId();
+        this.userId = schedule.userId();
+        this.name = schedule.name();
+        this.departmentId = schedule.departmentId();
+        this.departmentName = departmentName;
+        this.destination = schedule.destination();
+        this.travelDate = schedule.travelDate();
+        this.returnDate = schedule.returnDate();
+        this.status = schedule.status();
+    }
+
+    public static List<TravelScheduleListItem> getList(List<TravelSchedule> schedules,
+            Map<Integer, String> departmentNames) {
+        List<TravelScheduleListItem> list = new ArrayList<>();
+        for (TravelSchedule schedule : schedules) {
+            String departmentName = departmentNames.get(schedule.departmentId());
+            TravelScheduleListItem travelScheduleListItem = new TravelScheduleListItem(schedule, departmentName);
+            list.add(travelScheduleListItem);
+        }
+        return list;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.rockbot.back.dto.object;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelStatsListItem {
+
+    private int departmentId;
+    private String departmentName;
+    private String status;
+    private long count;
+
+    // departmentId -> status -> count
+    public static List<TravelStatsListItem> getList(Map<Integer, Map<String, Long>> counts,
+            Map<Integer, String> departmentNames) {
+        List<TravelStatsListItem> list = new ArrayList<>();
+        for (Map.Entry<Integer, Map<String, Long>> department : new TreeMap<>(counts).entrySet()) {
+            int departmentId = department.getKey();
+            String departmentName = departmentNames.get(departmentId);
+            for (Map.Entry<String, Long> status : new TreeMap<>(department.getValue()).entrySet()) {
+                TravelStatsListItem travelStatsListItem = new TravelStatsListItem(departmentId, departmentName,
+                        status.getKey(), status.getValue());
+                list.add(travelStatsListItem);
+            }
+        }
+        return list;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.rockbot.back.dto.object;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.rockbot.back.repository.resultSet.UserListResultSet;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserListItem {
+
+    private String userId;
+    private String name;
+    private String email;
+    private String type;
+    private String role;
+    private int departmentId;
+    private String departmentName;
+
+    public UserListItem(UserListResultSet resultSet, String departmentName) {
+        this.userId = resultSet.getUserId();
+        this.name = resultSet.getName();
+        this.email = resultSet.getEmail();
+        this.type = resultSet.getType();
+        this.role = resultSet.getRole();
+        this.departmentId = resultSet.getDepartmentId();
+        this.departmentName = departmentName;
+    }
+
+    // 부서 이름은 조인 없이 부서 목록 스냅샷에서 채움
+    public static List<UserListItem> getList(List<? extends UserListResultSet> resultSets,
+            Map<Integer, String> departmentNames) {
+        List<UserListItem> list = new ArrayList<>();
+        for (UserListResultSet resultSet : resultSets) {
+            String departmentName = departmentNames.get(resultSet.getDepartmentId());
+            UserListItem userListItem = new UserListItem(resultSet, departmentName);
+            list.add(userListItem);
+        }
+        return list;
+    }
+
+}
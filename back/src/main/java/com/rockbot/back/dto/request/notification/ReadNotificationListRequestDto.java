@@ -0,0 +1,22 @@
+package com.rockbot.back.dto.request.notification;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReadNotificationListRequestDto {
+
+    // 읽음 처리할 알림 ID 목록
+    @Size(max = 1000)
+    private List<Integer> notificationIds;
+
+    // 목록 대신 지정하면 이 ID 이하의 미확인 알림을 모두 읽음 처리
+    private Integer beforeNotificationId;
+
+}
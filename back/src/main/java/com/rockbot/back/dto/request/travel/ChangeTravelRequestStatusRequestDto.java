@@ -0,0 +1,19 @@
+package com.rockbot.back.dto.request.travel;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ChangeTravelRequestStatusRequestDto {
+
+    @NotBlank
+    private String status;
+
+    // 화면에서 조회한 버전 : 지정하면 그 사이 다른 변경이 있었을 때 충돌로 처리
+    private Long version;
+
+}
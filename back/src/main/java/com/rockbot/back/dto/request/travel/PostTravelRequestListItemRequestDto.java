@@ -0,0 +1,30 @@
+package com.rockbot.back.dto.request.travel;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 일괄 등록(관리자 전용) 항목 : 과거 데이터 이관을 위해 신청자와 상태, 제출일을 직접 지정
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostTravelRequestListItemRequestDto extends PostTravelRequestRequestDto {
+
+    @NotBlank
+    private String userId;
+
+    @NotBlank
+    private String name;
+
+    @NotNull
+    private Integer departmentId;
+
+    // 없으면 Pending, 현재 시각
+    private String status;
+    private LocalDateTime submissionDate;
+
+}
@@ -0,0 +1,21 @@
+package com.rockbot.back.dto.request.travel;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostTravelRequestListRequestDto {
+
+    @NotEmpty
+    @Size(max = 5000)
+    private List<@Valid PostTravelRequestListItemRequestDto> travelRequestList;
+
+}
@@ -0,0 +1,29 @@
+package com.rockbot.back.dto.request.travel;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 신청자 정보(아이디, 이름, 부서)는 본문이 아닌 인증된 사용자에서 가져옴
+@Getter
+@Setter
+@NoArgsConstructor
+public class PostTravelRequestRequestDto {
+
+    @NotBlank
+    private String destination;
+
+    @NotNull
+    private LocalDate travelDate;
+
+    @NotNull
+    private LocalDate returnDate;
+
+    @NotBlank
+    private String reason;
+
+}
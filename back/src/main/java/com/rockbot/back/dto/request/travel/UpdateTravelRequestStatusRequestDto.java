@@ -0,0 +1,22 @@
+package com.rockbot.back.dto.request.travel;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UpdateTravelRequestStatusRequestDto {
+
+    @NotEmpty
+    private List<Long> requestIds;
+
+    @NotBlank
+    private String status;
+
+}
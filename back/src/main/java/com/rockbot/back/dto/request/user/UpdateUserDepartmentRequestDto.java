@@ -0,0 +1,24 @@
+package com.rockbot.back.dto.request.user;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UpdateUserDepartmentRequestDto {
+
+    // 대상 지정 : userIds 또는 fromDepartmentId 중 하나
+    @Size(max = 1000)
+    private List<String> userIds;
+    private Integer fromDepartmentId;
+
+    @NotNull
+    private Integer departmentId;
+
+}
@@ -0,0 +1,46 @@
+package com.rockbot.back.dto.response.auth;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.common.ResponseCode;
+import com.rockbot.back.common.ResponseMessage;
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class RefreshResponseDto extends ResponseDto {
+
+    private String token;
+    private int expirationTime;
+
+    private int refreshExpirationTime;
+
+    private RefreshResponseDto(String token, int refreshExpirationTime) {
+        super();
+        this.token = token;
+        this.expirationTime = 3600;
+        this.refreshExpirationTime = refreshExpirationTime;
+    }
+
+    // 교체된 refresh token은 HttpOnly 쿠키로 전달
+    public static ResponseEntity<RefreshResponseDto> success(String token, ResponseCookie refreshTokenCookie,
+            int refreshExpirationTime) {
+        RefreshResponseDto responseBody = new RefreshResponseDto(token, refreshExpirationTime);
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+                .body(responseBody);
+    }
+
+    // 실패 시 브라우저에 남은 쿠키도 삭제
+    public static ResponseEntity<ResponseDto> refreshFail(ResponseCookie expiredCookie) {
+        ResponseDto responseBody = new ResponseDto(ResponseCode.REFRESH_FAIL, ResponseMessage.REFRESH_FAIL);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .header(HttpHeaders.SET_COOKIE, expiredCookie.toString())
+                .body(responseBody);
+    }
+
+}
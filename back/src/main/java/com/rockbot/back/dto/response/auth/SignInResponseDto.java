@@ -1,6 +1,8 @@
 package com.rockbot.back.dto.response.auth;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 
 import com.rockbot.back.dto.response.ResponseDto;
@@ -13,22 +15,30 @@ public class SignInResponseDto extends ResponseDto {
     private String token;
     private int expirationTime;
 
+    private int refreshExpirationTime;
+
     private String UserId; // 사용자 아이디
     private String name; // 사용자 이름
     private int departmentId; // 부서 이름
 
-    private SignInResponseDto(String token, String UserId, String name, int departmentId) {
+    private SignInResponseDto(String token, int refreshExpirationTime,
+            String UserId, String name, int departmentId) {
         this.token = token;
         this.expirationTime = 3600;
+        this.refreshExpirationTime = refreshExpirationTime;
         this.UserId = UserId;
         this.name = name;
         this.departmentId = departmentId;
     }
 
-    public static ResponseEntity<SignInResponseDto> success(String token, String userId, String name,
-            int departmentId) {
-        SignInResponseDto responseBody = new SignInResponseDto(token, userId, name, departmentId);
-        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    // refresh token은 본문이 아닌 HttpOnly 쿠키로 전달
+    public static ResponseEntity<SignInResponseDto> success(String token, ResponseCookie refreshTokenCookie,
+            int refreshExpirationTime, String userId, String name, int departmentId) {
+        SignInResponseDto responseBody = new SignInResponseDto(token, refreshExpirationTime,
+                userId, name, departmentId);
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+                .body(responseBody);
     }
 
     public static ResponseEntity<ResponseDto> signInFail() {
@@ -0,0 +1,26 @@
+package com.rockbot.back.dto.response.auth;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class SignOutResponseDto extends ResponseDto {
+
+    private SignOutResponseDto() {
+        super();
+    }
+
+    public static ResponseEntity<SignOutResponseDto> success(ResponseCookie expiredCookie) {
+        SignOutResponseDto responseBody = new SignOutResponseDto();
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(HttpHeaders.SET_COOKIE, expiredCookie.toString())
+                .body(responseBody);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.rockbot.back.dto.response.department;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.object.DepartmentListItem;
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class GetDepartmentListResponseDto extends ResponseDto {
+
+    private List<DepartmentListItem> departmentList;
+
+    private GetDepartmentListResponseDto(List<DepartmentListItem> departmentList) {
+        super();
+        this.departmentList = departmentList;
+    }
+
+    public static ResponseEntity<GetDepartmentListResponseDto> success(List<DepartmentListItem> departmentList,
+            String etag) {
+        GetDepartmentListResponseDto responseBody = new GetDepartmentListResponseDto(departmentList);
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag).body(responseBody);
+    }
+
+    public static ResponseEntity<GetDepartmentListResponseDto> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+}
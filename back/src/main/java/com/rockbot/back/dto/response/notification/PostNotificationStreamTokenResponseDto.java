@@ -0,0 +1,28 @@
+package com.rockbot.back.dto.response.notification;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class PostNotificationStreamTokenResponseDto extends ResponseDto {
+
+    private String token;
+    private long expirationTime;
+
+    private PostNotificationStreamTokenResponseDto(String token, long expirationTime) {
+        super();
+        this.token = token;
+        this.expirationTime = expirationTime;
+    }
+
+    public static ResponseEntity<PostNotificationStreamTokenResponseDto> success(String token, long expirationTime) {
+        PostNotificationStreamTokenResponseDto responseBody = new PostNotificationStreamTokenResponseDto(token,
+                expirationTime);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
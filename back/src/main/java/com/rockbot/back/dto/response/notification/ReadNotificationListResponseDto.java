@@ -0,0 +1,27 @@
+package com.rockbot.back.dto.response.notification;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class ReadNotificationListResponseDto extends ResponseDto {
+
+    private int readCount;
+    private long unreadCount;
+
+    private ReadNotificationListResponseDto(int readCount, long unreadCount) {
+        super();
+        this.readCount = readCount;
+        this.unreadCount = unreadCount;
+    }
+
+    public static ResponseEntity<ReadNotificationListResponseDto> success(int readCount, long unreadCount) {
+        ReadNotificationListResponseDto responseBody = new ReadNotificationListResponseDto(readCount, unreadCount);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
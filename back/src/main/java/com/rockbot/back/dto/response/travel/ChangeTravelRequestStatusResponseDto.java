@@ -0,0 +1,38 @@
+package com.rockbot.back.dto.response.travel;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.common.ResponseCode;
+import com.rockbot.back.common.ResponseMessage;
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class ChangeTravelRequestStatusResponseDto extends ResponseDto {
+
+    private String status;
+
+    private ChangeTravelRequestStatusResponseDto(String status) {
+        super();
+        this.status = status;
+    }
+
+    public static ResponseEntity<ChangeTravelRequestStatusResponseDto> success(String status) {
+        ChangeTravelRequestStatusResponseDto responseBody = new ChangeTravelRequestStatusResponseDto(status);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+    public static ResponseEntity<ResponseDto> notExistTravelRequest() {
+        ResponseDto responseBody = new ResponseDto(ResponseCode.NOT_EXISTED_TRAVEL_REQUEST,
+                ResponseMessage.NOT_EXISTED_TRAVEL_REQUEST);
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(responseBody);
+    }
+
+    public static ResponseEntity<ResponseDto> statusConflict() {
+        ResponseDto responseBody = new ResponseDto(ResponseCode.STATUS_CONFLICT, ResponseMessage.STATUS_CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(responseBody);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.rockbot.back.dto.response.travel;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.object.TravelScheduleListItem;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.provider.TravelScheduleProvider.TravelSchedule;
+
+import lombok.Getter;
+
+@Getter
+public class GetTravelOverlapResponseDto extends ResponseDto {
+
+    // 본인의 다른 출장과 기간이 겹치면 true
+    private boolean conflicted;
+
+    private List<TravelScheduleListItem> conflictList;
+
+    // 같은 기간에 출장 중인 같은 부서 구성원
+    private List<TravelScheduleListItem> departmentList;
+
+    private GetTravelOverlapResponseDto(List<TravelSchedule> conflicts, List<TravelSchedule> departmentSchedules,
+            Map<Integer, String> departmentNames) {
+        super();
+        this.conflicted = !conflicts.isEmpty();
+        this.conflictList = TravelScheduleListItem.getList(conflicts, departmentNames);
+        this.departmentList = TravelScheduleListItem.getList(departmentSchedules, departmentNames);
+    }
+
+    public static ResponseEntity<GetTravelOverlapResponseDto> success(List<TravelSchedule> conflicts,
+            List<TravelSchedule> departmentSchedules, Map<Integer, String> departmentNames) {
+        GetTravelOverlapResponseDto responseBody = new GetTravelOverlapResponseDto(conflicts, departmentSchedules,
+                departmentNames);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
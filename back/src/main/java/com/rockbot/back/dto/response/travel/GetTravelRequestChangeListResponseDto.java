@@ -0,0 +1,42 @@
+package com.rockbot.back.dto.response.travel;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.object.TravelRequestListItem;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.repository.resultSet.TravelRequestChangeResultSet;
+
+import lombok.Getter;
+
+@Getter
+public class GetTravelRequestChangeListResponseDto extends ResponseDto {
+
+    private List<TravelRequestListItem> travelRequestList;
+
+    // 다음 요청 시 since로 전달할 값 (변경이 없으면 요청한 값 그대로)
+    private String nextCursor;
+
+    // 한 페이지에 담지 못한 변경이 남아 있으면 true
+    private boolean hasMore;
+
+    private GetTravelRequestChangeListResponseDto(List<? extends TravelRequestChangeResultSet> resultSets,
+            Map<Integer, String> departmentNames, String nextCursor, boolean hasMore) {
+        super();
+        this.travelRequestList = TravelRequestListItem.getList(resultSets, departmentNames);
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public static ResponseEntity<GetTravelRequestChangeListResponseDto> success(
+            List<? extends TravelRequestChangeResultSet> resultSets, Map<Integer, String> departmentNames,
+            String nextCursor, boolean hasMore) {
+        GetTravelRequestChangeListResponseDto responseBody = new GetTravelRequestChangeListResponseDto(resultSets,
+                departmentNames, nextCursor, hasMore);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.rockbot.back.dto.response.travel;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.object.TravelRequestListItem;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.repository.resultSet.TravelRequestListResultSet;
+
+import lombok.Getter;
+
+@Getter
+public class GetTravelRequestListResponseDto extends ResponseDto {
+
+    private List<TravelRequestListItem> travelRequestList;
+
+    // 다음 페이지 요청 시 cursor로 전달할 값 (마지막 페이지면 null)
+    private String nextCursor;
+
+    // 첫 페이지 조회 시점의 변경 순번 : /travel-requests/changes의 since로 전달하면 이후 변경만 받음
+    private String changeCursor;
+
+    private GetTravelRequestListResponseDto(List<? extends TravelRequestListResultSet> resultSets,
+            Map<Integer, String> departmentNames, String nextCursor, String changeCursor) {
+        super();
+        this.travelRequestList = TravelRequestListItem.getList(resultSets, departmentNames);
+        this.nextCursor = nextCursor;
+        this.changeCursor = changeCursor;
+    }
+
+    public static ResponseEntity<GetTravelRequestListResponseDto> success(
+            List<? extends TravelRequestListResultSet> resultSets, Map<Integer, String> departmentNames,
+            String nextCursor, String changeCursor) {
+        GetTravelRequestListResponseDto responseBody = new GetTravelRequestListResponseDto(resultSets,
+                departmentNames, nextCursor, changeCursor);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.rockbot.back.dto.response.travel;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.object.TravelScheduleListItem;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.provider.TravelScheduleProvider.TravelSchedule;
+
+import lombok.Getter;
+
+@Getter
+public class GetTravelScheduleListResponseDto extends ResponseDto {
+
+    private List<TravelScheduleListItem> scheduleList;
+
+    private GetTravelScheduleListResponseDto(List<TravelSchedule> schedules, Map<Integer, String> departmentNames) {
+        super();
+        this.scheduleList = TravelScheduleListItem.getList(schedules, departmentNames);
+    }
+
+    public static ResponseEntity<GetTravelScheduleListResponseDto> success(List<TravelSchedule> schedules,
+            Map<Integer, String> departmentNames) {
+        GetTravelScheduleListResponseDto responseBody = new GetTravelScheduleListResponseDto(schedules,
+                departmentNames);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.rockbot.back.dto.response.travel;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.object.TravelStatsListItem;
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class GetTravelStatsResponseDto extends ResponseDto {
+
+    // 월을 지정하지 않으면 null (전체 기간)
+    private String month;
+    private List<TravelStatsListItem> statsList;
+
+    private GetTravelStatsResponseDto(String month, Map<Integer, Map<String, Long>> counts,
+            Map<Integer, String> departmentNames) {
+        super();
+        this.month = month;
+        this.statsList = TravelStatsListItem.getList(counts, departmentNames);
+    }
+
+    public static ResponseEntity<GetTravelStatsResponseDto> success(String month,
+            Map<Integer, Map<String, Long>> counts, Map<Integer, String> departmentNames) {
+        GetTravelStatsResponseDto responseBody = new GetTravelStatsResponseDto(month, counts, departmentNames);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.rockbot.back.dto.response.travel;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class PostTravelRequestListResponseDto extends ResponseDto {
+
+    private int insertedCount;
+
+    // 요청 목록과 같은 순서
+    private List<Long> requestIds;
+
+    private PostTravelRequestListResponseDto(List<Long> requestIds) {
+        super();
+        this.insertedCount = requestIds.size();
+        this.requestIds = requestIds;
+    }
+
+    public static ResponseEntity<PostTravelRequestListResponseDto> success(List<Long> requestIds) {
+        PostTravelRequestListResponseDto responseBody = new PostTravelRequestListResponseDto(requestIds);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.rockbot.back.dto.response.travel;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.object.TravelScheduleListItem;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.provider.TravelScheduleProvider.TravelSchedule;
+
+import lombok.Getter;
+
+@Getter
+public class PostTravelRequestResponseDto extends ResponseDto {
+
+    private Long requestId;
+
+    // 신청 기간과 겹치는 본인의 다른 출장
+    private List<TravelScheduleListItem> conflictList;
+
+    private PostTravelRequestResponseDto(Long requestId, List<TravelSchedule> conflicts,
+            Map<Integer, String> departmentNames) {
+        super();
+        this.requestId = requestId;
+        this.conflictList = TravelScheduleListItem.getList(conflicts, departmentNames);
+    }
+
+    public static ResponseEntity<PostTravelRequestResponseDto> success(Long requestId, List<TravelSchedule> conflicts,
+            Map<Integer, String> departmentNames) {
+        PostTravelRequestResponseDto responseBody = new PostTravelRequestResponseDto(requestId, conflicts,
+                departmentNames);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.rockbot.back.dto.response.travel;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.object.TravelRequestStatusResultItem;
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class UpdateTravelRequestStatusResponseDto extends ResponseDto {
+
+    private int updatedCount;
+    private List<TravelRequestStatusResultItem> resultList;
+
+    private UpdateTravelRequestStatusResponseDto(int updatedCount, List<TravelRequestStatusResultItem> resultList) {
+        super();
+        this.updatedCount = updatedCount;
+        this.resultList = resultList;
+    }
+
+    public static ResponseEntity<UpdateTravelRequestStatusResponseDto> success(int updatedCount,
+            List<TravelRequestStatusResultItem> resultList) {
+        UpdateTravelRequestStatusResponseDto responseBody = new UpdateTravelRequestStatusResponseDto(updatedCount,
+                resultList);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
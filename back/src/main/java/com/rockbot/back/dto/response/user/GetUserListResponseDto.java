@@ -0,0 +1,36 @@
+package com.rockbot.back.dto.response.user;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.object.UserListItem;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.repository.resultSet.UserListResultSet;
+
+import lombok.Getter;
+
+@Getter
+public class GetUserListResponseDto extends ResponseDto {
+
+    private List<UserListItem> userList;
+
+    // 다음 페이지 요청 시 cursor로 전달할 값 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private GetUserListResponseDto(List<? extends UserListResultSet> resultSets, Map<Integer, String> departmentNames,
+            String nextCursor) {
+        super();
+        this.userList = UserListItem.getList(resultSets, departmentNames);
+        this.nextCursor = nextCursor;
+    }
+
+    public static ResponseEntity<GetUserListResponseDto> success(List<? extends UserListResultSet> resultSets,
+            Map<Integer, String> departmentNames, String nextCursor) {
+        GetUserListResponseDto responseBody = new GetUserListResponseDto(resultSets, departmentNames, nextCursor);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
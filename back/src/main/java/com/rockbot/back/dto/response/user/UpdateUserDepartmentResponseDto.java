@@ -0,0 +1,25 @@
+package com.rockbot.back.dto.response.user;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.response.ResponseDto;
+
+import lombok.Getter;
+
+@Getter
+public class UpdateUserDepartmentResponseDto extends ResponseDto {
+
+    private int affectedCount;
+
+    private UpdateUserDepartmentResponseDto(int affectedCount) {
+        super();
+        this.affectedCount = affectedCount;
+    }
+
+    public static ResponseEntity<UpdateUserDepartmentResponseDto> success(int affectedCount) {
+        UpdateUserDepartmentResponseDto responseBody = new UpdateUserDepartmentResponseDto(affectedCount);
+        return ResponseEntity.status(HttpStatus.OK).body(responseBody);
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.rockbot.back.entity;
 
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -17,4 +20,8 @@ public class CertificationEntity {
     private String userId;
     private String email;
     private String certificationNumber; 
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+    private int attempts;
 }
@@ -15,6 +15,8 @@ public class CustomOAuth2User implements OAuth2User {
 
     private String userId;
     private String name;
+    private String role;
+    private int departmentId;
 
     @Override
     public Map<String, Object> getAttributes() {
@@ -34,4 +36,12 @@ public class CustomOAuth2User implements OAuth2User {
         return name;
     }
 
+    public String getRole() {
+        return role;
+    }
+
+    public int getDepartmentId() {
+        return departmentId;
+    }
+
 }
@@ -0,0 +1,44 @@
+package com.rockbot.back.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "refresh_token")
+@Table(name = "refresh_token")
+public class RefreshTokenEntity {
+
+    // 원문 토큰이 아닌 SHA-256 해시만 저장
+    @Id
+    @Column(name = "token_hash")
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private UserEntity user;
+
+    // 같은 로그인에서 교체되어 온 토큰들의 묶음
+    @Column(name = "family_id")
+    private String familyId;
+
+    private boolean used;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+}
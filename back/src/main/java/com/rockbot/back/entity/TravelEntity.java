@@ -5,6 +5,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.persistence.Column;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,6 +14,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.rockbot.back.common.TravelStatus;
+import com.rockbot.back.dto.request.travel.PostTravelRequestListItemRequestDto;
+import com.rockbot.back.dto.request.travel.PostTravelRequestRequestDto;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -43,8 +48,39 @@ public class TravelEntity {
 
     private String status;
 
-    @Column(name = "submission_date")
+    @Column(name = "submission_date", nullable = false)
     private LocalDateTime submissionDate;
 
     private String name;
+
+    @Version
+    private Long version;
+
+    // 변경 피드용 순번 : 생성, 변경 시마다 DB 트리거가 새로 발급
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private long changeSeq;
+
+    public TravelEntity(PostTravelRequestRequestDto dto, UserEntity userEntity, LocalDateTime submissionDate) {
+        this.userId = userEntity.getUserId();
+        this.departmentId = userEntity.getDepartmentId();
+        this.destination = dto.getDestination();
+        this.travelDate = dto.getTravelDate();
+        this.returnDate = dto.getReturnDate();
+        this.reason = dto.getReason();
+        this.status = TravelStatus.PENDING.getValue();
+        this.submissionDate = submissionDate;
+        this.name = userEntity.getName();
+    }
+
+    public TravelEntity(PostTravelRequestListItemRequestDto dto, String status, LocalDateTime submissionDate) {
+        this.userId = dto.getUserId();
+        this.departmentId = dto.getDepartmentId();
+        this.destination = dto.getDestination();
+        this.travelDate = dto.getTravelDate();
+        this.returnDate = dto.getReturnDate();
+        this.reason = dto.getReason();
+        this.status = status;
+        this.submissionDate = submissionDate;
+        this.name = dto.getName();
+    }
 }
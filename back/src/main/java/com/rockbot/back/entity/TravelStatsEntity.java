@@ -0,0 +1,35 @@
+package com.rockbot.back.entity;
+
+import com.rockbot.back.entity.primaryKey.TravelStatsPk;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "travel_request_stats")
+@IdClass(TravelStatsPk.class)
+public class TravelStatsEntity {
+
+    @Id
+    @Column(name = "department_id")
+    private int departmentId;
+
+    @Id
+    private String month;
+
+    @Id
+    private String status;
+
+    @Column(name = "request_count")
+    private long requestCount;
+
+}
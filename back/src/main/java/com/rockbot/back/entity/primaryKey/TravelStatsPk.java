@@ -0,0 +1,23 @@
+package com.rockbot.back.entity.primaryKey;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TravelStatsPk implements Serializable {
+
+    private int departmentId;
+
+    // yyyy-MM
+    private String month;
+
+    private String status;
+
+}
@@ -15,10 +15,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.rockbot.back.entity.UserEntity;
 import com.rockbot.back.provider.JwtProvider;
-import com.rockbot.back.repository.UserRepository;
+import com.rockbot.back.provider.PrincipalCacheProvider;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,8 +29,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final PrincipalCacheProvider principalCacheProvider;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -45,18 +45,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String userId = jwtProvider.validate(token);
+            Claims claims = jwtProvider.parse(token);
 
-            if (userId == null) {
+            // 알림 스트림 토큰처럼 용도가 정해진 토큰은 인증에 사용하지 않음
+            if (claims == null || !jwtProvider.isAccessToken(claims)) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            UserEntity userEntity = userRepository.findByUserId(userId);
-            String role = userEntity.getRole(); // role : ROLE_USER, ROLE_ADMIN
+            String userId = claims.getSubject();
+            String role = principalCacheProvider.getRole(claims); // role : ROLE_USER, ROLE_ADMIN
 
-            System.out.println("User ID: " + userId);
-            System.out.println("User Role: " + role);
+            if (role == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
 
             List<GrantedAuthority> authorities = new ArrayList<>();
             authorities.add(new SimpleGrantedAuthority(role));
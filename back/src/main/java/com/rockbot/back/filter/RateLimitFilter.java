@@ -0,0 +1,205 @@
+package com.rockbot.back.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rockbot.back.common.ResponseCode;
+import com.rockbot.back.common.ResponseMessage;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.provider.RateLimitProvider;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 인증 없이 호출 가능한 sign-in, id-check, email-certification 요청을
+ * 클라이언트 IP와 요청 본문의 사용자 ID 기준으로 각각 제한한다.
+ * 본문은 메모리에 읽어 두므로 최대 크기를 넘는 요청은 읽지 않고 413으로 거절한다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Limit(String name, int capacity, int refillPerMinute) {
+    }
+
+    private final RateLimitProvider rateLimitProvider;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Limit> limits;
+    private final int maxBodyBytes;
+
+    public RateLimitFilter(
+            RateLimitProvider rateLimitProvider,
+            ObjectMapper objectMapper,
+            @Value("${rate-limit.sign-in.capacity:10}") int signInCapacity,
+            @Value("${rate-limit.sign-in.refill-per-minute:10}") int signInRefillPerMinute,
+            @Value("${rate-limit.id-check.capacity:30}") int idCheckCapacity,
+            @Value("${rate-limit.id-check.refill-per-minute:60}") int idCheckRefillPerMinute,
+            @Value("${rate-limit.email-certification.capacity:3}") int emailCertificationCapacity,
+            @Value("${rate-limit.email-certification.refill-per-minute:3}") int emailCertificationRefillPerMinute,
+            @Value("${rate-limit.max-body-bytes:8192}") int maxBodyBytes) {
+
+        this.rateLimitProvider = rateLimitProvider;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+        this.limits = Map.of(
+                "/api/v1/auth/sign-in", new Limit("sign-in", signInCapacity, signInRefillPerMinute),
+                "/api/v1/auth/id-check", new Limit("id-check", idCheckCapacity, idCheckRefillPerMinute),
+                "/api/v1/auth/email-certification", new Limit("email-certification",
+                        emailCertificationCapacity, emailCertificationRefillPerMinute));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !limits.containsKey(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Limit limit = limits.get(request.getRequestURI());
+
+        long retryAfter = consume(limit, "ip:" + request.getRemoteAddr());
+        if (retryAfter > 0) {
+            reject(response, retryAfter);
+            return;
+        }
+
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            rejectTooLarge(response);
+            return;
+        }
+
+        // 본문의 사용자 ID를 읽은 뒤 컨트롤러에서 다시 읽을 수 있도록 감싸서 넘김
+        // (Content-Length 없이 전송된 경우를 위해 최대 크기보다 1바이트 더 읽어서 확인)
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            rejectTooLarge(response);
+            return;
+        }
+
+        CachedBodyRequest cachedBodyRequest = new CachedBodyRequest(request, body);
+        String userId = parseUserId(cachedBodyRequest.body);
+
+        if (userId != null) {
+            retryAfter = consume(limit, "user:" + userId);
+            if (retryAfter > 0) {
+                reject(response, retryAfter);
+                return;
+            }
+        }
+
+        filterChain.doFilter(cachedBodyRequest, response);
+
+    }
+
+    private long consume(Limit limit, String key) {
+        return rateLimitProvider.tryConsume(limit.name() + ":" + key, limit.capacity(), limit.refillPerMinute());
+    }
+
+    private String parseUserId(byte[] body) {
+
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+            if (id == null || !id.isTextual())
+                return null;
+            return id.asText();
+        } catch (Exception exception) {
+            // 잘못된 본문은 이후 검증 단계에서 처리
+            return null;
+        }
+
+    }
+
+    private void reject(HttpServletResponse response, long retryAfter) throws IOException {
+
+        ResponseDto responseBody = new ResponseDto(ResponseCode.TOO_MANY_REQUESTS, ResponseMessage.TOO_MANY_REQUESTS);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), responseBody);
+
+    }
+
+    private void rejectTooLarge(HttpServletResponse response) throws IOException {
+
+        ResponseDto responseBody = new ResponseDto(ResponseCode.PAYLOAD_TOO_LARGE, ResponseMessage.PAYLOAD_TOO_LARGE);
+
+        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), responseBody);
+
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return inputStream.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 바로 읽기 가능/완료를 알림
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished())
+                            readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException exception) {
+                        readListener.onError(exception);
+                    }
+                }
+
+            };
+
+        }
+
+    }
+
+}
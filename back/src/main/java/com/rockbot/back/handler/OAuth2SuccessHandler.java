@@ -3,12 +3,14 @@ package com.rockbot.back.handler;
 import java.io.IOException;
 import java.net.URLEncoder;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
 import com.rockbot.back.entity.CustomOAuth2User;
 import com.rockbot.back.provider.JwtProvider;
+import com.rockbot.back.provider.RefreshTokenProvider;
 
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -21,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JwtProvider jwtProvider;
+    private final RefreshTokenProvider refreshTokenProvider;
 
     @Override
     public void onAuthenticationSuccess(
@@ -31,9 +34,11 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         CustomOAuth2User oAuth2User = (CustomOAuth2User) authentication.getPrincipal();
         String userId = oAuth2User.getUserId();
         String name = oAuth2User.getName();
-        int departmentId = 1;
-        String token = jwtProvider.create(userId, name, departmentId);
+        String role = oAuth2User.getRole();
+        int departmentId = oAuth2User.getDepartmentId();
+        String token = jwtProvider.create(userId, name, departmentId, role);
         int expirationTime = 3600; // 토큰 유효 시간 (초)
+        String refreshToken = refreshTokenProvider.create(userId);
 
         // 쿠키로 정보 설정
         Cookie tokenCookie = new Cookie("accessToken", URLEncoder.encode(token, "UTF-8"));
@@ -41,6 +46,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         tokenCookie.setPath("/"); // 모든 경로에서 접근 가능
         response.addCookie(tokenCookie);
 
+        // refresh token은 스크립트에서 읽을 수 없도록 HttpOnly, Secure, SameSite 쿠키로 설정
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenProvider.createCookie(refreshToken).toString());
+
         Cookie nameCookie = new Cookie("name", URLEncoder.encode(name, "UTF-8"));
         nameCookie.setMaxAge(expirationTime);
         nameCookie.setPath("/");
@@ -0,0 +1,16 @@
+package com.rockbot.back.provider;
+
+/**
+ * 이메일 인증번호 저장소. 기본은 단일 서버용 메모리 구현이며,
+ * 여러 서버가 인증번호를 공유해야 하면 certification.store=jdbc 로 DB 구현을 사용한다.
+ */
+public interface CertificationStore {
+
+    void save(String userId, String email, String certificationNumber);
+
+    // 만료되었거나 시도 횟수를 초과한 인증번호는 일치하더라도 false
+    boolean verify(String userId, String email, String certificationNumber);
+
+    void delete(String userId);
+
+}
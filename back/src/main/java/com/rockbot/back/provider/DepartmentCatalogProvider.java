@@ -0,0 +1,78 @@
+package com.rockbot.back.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.rockbot.back.dto.object.DepartmentListItem;
+import com.rockbot.back.entity.DepartmentEntity;
+import com.rockbot.back.repository.DepartmentRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부서 목록의 불변 스냅샷. 기동 시 읽어 두고 주기적으로 다시 읽어서 내용이 바뀐 경우에만 통째로 교체한다.
+ * 목록 조회 응답에 부서 이름을 붙일 때 행마다 조인하지 않고 이 스냅샷을 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DepartmentCatalogProvider {
+
+    public record DepartmentCatalog(List<DepartmentListItem> departmentList, Map<Integer, String> departmentNames,
+            String etag) {
+    }
+
+    private static final DepartmentCatalog EMPTY_CATALOG = new DepartmentCatalog(List.of(), Map.of(), "\"0\"");
+
+    private final DepartmentRepository departmentRepository;
+
+    private final AtomicReference<DepartmentCatalog> catalog = new AtomicReference<>(EMPTY_CATALOG);
+
+    @PostConstruct
+    public void init() {
+        try {
+            refresh();
+        } catch (Exception exception) {
+            // DB를 읽지 못해도 기동은 계속하고 다음 주기에 다시 시도
+            exception.printStackTrace();
+        }
+    }
+
+    public DepartmentCatalog getCatalog() {
+        return catalog.get();
+    }
+
+    public String getDepartmentName(int departmentId) {
+        return catalog.get().departmentNames().get(departmentId);
+    }
+
+    @Scheduled(fixedDelayString = "${department-catalog.refresh-interval:PT5M}")
+    public void refresh() {
+
+        List<DepartmentEntity> departmentEntities = departmentRepository.findAllByOrderById();
+        List<DepartmentListItem> departmentList = List.copyOf(DepartmentListItem.getList(departmentEntities));
+
+        StringBuilder content = new StringBuilder();
+        Map<Integer, String> departmentNames = new HashMap<>();
+        for (DepartmentListItem departmentListItem : departmentList) {
+            departmentNames.put(departmentListItem.getDepartmentId(), departmentListItem.getDepartmentName());
+            content.append(departmentListItem.getDepartmentId()).append(':')
+                    .append(departmentListItem.getDepartmentName()).append('\n');
+        }
+
+        String etag = "\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        if (etag.equals(catalog.get().etag()))
+            return;
+
+        catalog.set(new DepartmentCatalog(departmentList, Map.copyOf(departmentNames), etag));
+
+    }
+
+}
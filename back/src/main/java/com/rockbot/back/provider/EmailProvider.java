@@ -1,9 +1,14 @@
 package com.rockbot.back.provider;
 
-import org.springframework.mail.javamail.JavaMailSender;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
+import com.rockbot.back.entity.MailOutboxEntity;
+import com.rockbot.back.repository.MailOutboxRepository;
+
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 
@@ -11,35 +16,83 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EmailProvider {
 
-    private final JavaMailSender javaMailSender;
+    private final SmtpTransportPool smtpTransportPool;
+    private final MailOutboxRepository mailOutboxRepository;
 
     private final String SUBJECT = "[ROCKBOT] 인증메일입니다.";
 
+    // 메일을 바로 보내지 않고 발송 대기열(mail_outbox)에 저장, 실제 발송은 MailOutboxProvider가 처리
     public boolean sendCertificationMail(String email, String certificationNumber) {
         try {
 
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper messageHelper = new MimeMessageHelper(message, true);
-
             String htmlContent = getCertificationMessage(certificationNumber);
 
-            messageHelper.setTo(email);
-            messageHelper.setSubject(SUBJECT);
-            messageHelper.setText(htmlContent, true);
+            MailOutboxEntity mailOutboxEntity = new MailOutboxEntity(email, SUBJECT, htmlContent);
+            mailOutboxRepository.save(mailOutboxEntity);
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            return false;
+        }
+        
+
+        return true;
+
+    }
+
+    // 공지, 알림 요약 등 여러 수신자에게 같은 메일을 보낼 때 사용 (대기열에 한 번에 저장)
+    public boolean sendBulkMail(List<String> recipients, String subject, String htmlContent) {
+        try {
 
-            javaMailSender.send(message);
+            List<MailOutboxEntity> mailOutboxEntities = new ArrayList<>();
+            for (String recipient : recipients)
+                mailOutboxEntities.add(new MailOutboxEntity(recipient, subject, htmlContent));
 
+            mailOutboxRepository.saveAll(mailOutboxEntities);
 
         } catch (Exception exception) {
             exception.printStackTrace();
             return false;
         }
-        
 
         return true;
 
     }
 
+    // 풀에서 빌린 하나의 SMTP 연결로 여러 메일을 발송하고 메일별 결과를 반환 (성공 : null)
+    public Exception[] send(List<MailOutboxEntity> mailOutboxEntities) {
+
+        Exception[] failures = new Exception[mailOutboxEntities.size()];
+        List<MimeMessage> messages = new ArrayList<>();
+        List<Integer> messageIndexes = new ArrayList<>();
+
+        for (int index = 0; index < mailOutboxEntities.size(); index++) {
+            MailOutboxEntity mailOutboxEntity = mailOutboxEntities.get(index);
+            try {
+
+                MimeMessage message = smtpTransportPool.createMimeMessage();
+                MimeMessageHelper messageHelper = new MimeMessageHelper(message, true);
+
+                messageHelper.setTo(mailOutboxEntity.getRecipient());
+                messageHelper.setSubject(mailOutboxEntity.getSubject());
+                messageHelper.setText(mailOutboxEntity.getContent(), true);
+
+                messages.add(message);
+                messageIndexes.add(index);
+
+            } catch (Exception exception) {
+                failures[index] = exception;
+            }
+        }
+
+        Exception[] sendFailures = smtpTransportPool.send(messages);
+        for (int index = 0; index < sendFailures.length; index++)
+            failures[messageIndexes.get(index)] = sendFailures[index];
+
+        return failures;
+
+    }
+
     private String getCertificationMessage(String certificationNumber) {
 
         String certificationMessage = "";
@@ -0,0 +1,97 @@
+package com.rockbot.back.provider;
+
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.nimbusds.jose.util.StandardCharset;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT 서명 키 목록(key ring). 키와 파서는 기동 시 한 번만 만들고 이후 모든 요청에서 재사용한다.
+ * 새 토큰은 signing-key-id 키로 서명하고, 검증은 헤더의 kid로 키를 골라 수행하므로
+ * 이전 키를 verification-keys에 남겨두면 무중단으로 키를 교체할 수 있다.
+ */
+@Component
+public class JwtKeyProvider {
+
+    private final String signingKeyId;
+    private final Key signingKey;
+    private final Map<String, Key> keys;
+    private final JwtParser parser;
+
+    public JwtKeyProvider(
+            @Value("${secret-key}") String secretKey,
+            @Value("${jwt.signing-key-id:default}") String signingKeyId,
+            @Value("${jwt.verification-keys:}") String verificationKeys) {
+
+        Map<String, Key> keys = new HashMap<>();
+
+        // 형식 : kid:secret,kid:secret
+        for (String entry : StringUtils.commaDelimitedListToStringArray(verificationKeys)) {
+            int separator = entry.indexOf(':');
+            if (separator < 1)
+                throw new IllegalArgumentException("Invalid jwt.verification-keys entry.");
+            keys.put(entry.substring(0, separator).trim(), createKey(entry.substring(separator + 1).trim()));
+        }
+
+        this.signingKeyId = signingKeyId;
+        this.signingKey = createKey(secretKey);
+        keys.put(signingKeyId, signingKey);
+        this.keys = Map.copyOf(keys);
+
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyIdResolver())
+                .build();
+    }
+
+    public String getSigningKeyId() {
+        return signingKeyId;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    // 빌드된 JwtParser는 불변이므로 여러 스레드에서 공유해도 안전함
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    private Key createKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharset.UTF_8));
+    }
+
+    private class KeyIdResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+
+            String keyId = header.getKeyId();
+
+            // kid가 없는 이전 토큰은 현재 서명 키로 검증
+            if (keyId == null)
+                return signingKey;
+
+            Key key = keys.get(keyId);
+            if (key == null)
+                throw new JwtException("Unknown key id.");
+
+            return key;
+
+        }
+
+    }
+
+}
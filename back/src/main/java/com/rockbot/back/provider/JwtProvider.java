@@ -1,33 +1,37 @@
 package com.rockbot.back.provider;
 
-import java.security.Key;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.UUID;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.nimbusds.jose.util.StandardCharset;
-
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class JwtProvider {
 
-    @Value("${secret-key}")
-    private String secretKey;
+    private static final String PURPOSE_CLAIM = "purpose";
+    private static final String STREAM_PURPOSE = "notification-stream";
+
+    private final JwtKeyProvider jwtKeyProvider;
 
-    public String create(String userId, String name, int departmentId) {
+    public String create(String userId, String name, int departmentId, String role) {
 
         Date expiredDate = Date.from(Instant.now().plus(1, ChronoUnit.HOURS));
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharset.UTF_8));
 
+        // role 클레임을 포함해 요청마다 사용자 테이블을 조회하지 않도록 함
         String jwt = Jwts.builder()
-                .signWith(key, SignatureAlgorithm.HS256)
-                .setSubject(userId).claim("name", name).claim("departmentId", 1).setIssuedAt(new Date())
+                .setHeaderParam("kid", jwtKeyProvider.getSigningKeyId())
+                .signWith(jwtKeyProvider.getSigningKey(), SignatureAlgorithm.HS256)
+                .setSubject(userId).setId(UUID.randomUUID().toString())
+                .claim("name", name).claim("departmentId", departmentId).claim("role", role)
+                .setIssuedAt(new Date())
                 .setExpiration(expiredDate)
                 .compact();
 
@@ -35,26 +39,66 @@ public class JwtProvider {
 
     }
 
+    // 알림 스트림 접속 전용 토큰 : EventSource는 헤더를 보낼 수 없어 쿼리 파라미터로 전달하므로 유효 시간을 짧게 둠
+    public String createStreamToken(String userId, long expirationSeconds) {
+
+        Date expiredDate = Date.from(Instant.now().plus(expirationSeconds, ChronoUnit.SECONDS));
+
+        String jwt = Jwts.builder()
+                .setHeaderParam("kid", jwtKeyProvider.getSigningKeyId())
+                .signWith(jwtKeyProvider.getSigningKey(), SignatureAlgorithm.HS256)
+                .setSubject(userId).setId(UUID.randomUUID().toString())
+                .claim(PURPOSE_CLAIM, STREAM_PURPOSE)
+                .setIssuedAt(new Date())
+                .setExpiration(expiredDate)
+                .compact();
+
+        return jwt;
+
+    }
+
+    // 스트림 토큰이면 subject, 아니면 null
+    public String validateStreamToken(String jwt) {
+
+        Claims claims = parse(jwt);
+        if (claims == null || !STREAM_PURPOSE.equals(claims.get(PURPOSE_CLAIM, String.class)))
+            return null;
+
+        return claims.getSubject();
+
+    }
+
+    // 액세스 토큰에는 purpose 클레임이 없음
+    public boolean isAccessToken(Claims claims) {
+        return claims.get(PURPOSE_CLAIM) == null;
+    }
+
     public String validate(String jwt) {
 
-        String subject = null;
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharset.UTF_8));
+        Claims claims = parse(jwt);
+        if (claims == null)
+            return null;
+
+        return claims.getSubject();
+
+    }
+
+    public Claims parse(String jwt) {
+
+        Claims claims = null;
 
         try {
 
-            subject = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
+            claims = jwtKeyProvider.getParser()
                     .parseClaimsJws(jwt)
-                    .getBody()
-                    .getSubject();
+                    .getBody();
 
         } catch (Exception exception) {
             exception.printStackTrace();
             return null;
         }
 
-        return subject;
+        return claims;
 
     }
 
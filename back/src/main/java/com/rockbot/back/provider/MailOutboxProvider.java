@@ -0,0 +1,180 @@
+package com.rockbot.back.provider;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.rockbot.back.entity.MailOutboxEntity;
+import com.rockbot.back.repository.MailOutboxRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * mail_outbox에 쌓인 메일을 워커 풀에서 발송한다.
+ * 실패하면 지수 백오프로 재시도하고, max-attempts를 넘기면 Dead 상태로 남겨 둔다.
+ * 발송이 끝난(Sent, Dead) 메일은 인증번호와 주소가 남지 않도록 retention-days가 지나면 삭제한다.
+ * 점유한 뒤 아직 발송하지 않은 메일 수를 batch-size 이하로 유지해서, 큐에서 기다리는 동안 점유 시간이
+ * 끝나 다른 poll이 같은 메일을 다시 가져가는 일이 없도록 한다.
+ */
+@Component
+public class MailOutboxProvider {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailProvider emailProvider;
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final ThreadPoolExecutor executor;
+    // 점유했지만 아직 발송 처리가 끝나지 않은 메일 수
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final int batchSize;
+    private final int sendBatchSize;
+    private final int maxAttempts;
+    private final long backoffSeconds;
+    private final long leaseSeconds;
+    private final long retentionDays;
+
+    public MailOutboxProvider(
+            EmailProvider emailProvider,
+            MailOutboxRepository mailOutboxRepository,
+            @Value("${mail-outbox.pool-size:2}") int poolSize,
+            @Value("${mail-outbox.batch-size:50}") int batchSize,
+            @Value("${mail-outbox.send-batch-size:20}") int sendBatchSize,
+            @Value("${mail-outbox.max-attempts:5}") int maxAttempts,
+            @Value("${mail-outbox.backoff-seconds:30}") long backoffSeconds,
+            @Value("${mail-outbox.lease-seconds:300}") long leaseSeconds,
+            @Value("${mail-outbox.retention-days:7}") long retentionDays) {
+
+        this.emailProvider = emailProvider;
+        this.mailOutboxRepository = mailOutboxRepository;
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                new CustomizableThreadFactory("mail-outbox-"));
+
+        this.batchSize = batchSize;
+        this.sendBatchSize = sendBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffSeconds = backoffSeconds;
+        this.leaseSeconds = leaseSeconds;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${mail-outbox.poll-interval-ms:1000}")
+    public void poll() {
+
+        // 큐 크기를 작업(묶음)이 아닌 메일 수로 계산 : 미발송 메일이 batch-size를 넘지 않도록 남은 만큼만 가져옴
+        // (묶음은 1통 이상이므로 큐에 batch-size개 넘게 쌓이지 않아 거절되는 작업도 없음)
+        int capacity = batchSize - inFlight.get();
+        if (capacity <= 0)
+            return;
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = mailOutboxRepository.findDueIds(now, PageRequest.of(0, capacity));
+
+        // 가져온 메일을 send-batch-size 단위로 묶어 하나의 SMTP 연결로 발송
+        List<Long> batch = new ArrayList<>();
+        for (Long id : dueIds) {
+            boolean isClaimed = mailOutboxRepository.claim(id, now, now.plusSeconds(leaseSeconds)) == 1;
+            if (isClaimed)
+                batch.add(id);
+
+            if (batch.size() == sendBatchSize) {
+                submit(batch);
+                batch = new ArrayList<>();
+            }
+        }
+
+        if (!batch.isEmpty())
+            submit(batch);
+
+    }
+
+    private void submit(List<Long> ids) {
+        inFlight.addAndGet(ids.size());
+        executor.execute(() -> {
+            try {
+                deliver(ids);
+            } catch (Exception exception) {
+                // 상태를 갱신하지 못한 메일은 점유 시간이 끝난 뒤 다시 발송 대상이 됨
+                exception.printStackTrace();
+            } finally {
+                inFlight.addAndGet(-ids.size());
+            }
+        });
+    }
+
+    private void deliver(List<Long> ids) {
+
+        // 점유 시간이 이미 끝난 메일은 다른 poll이 다시 가져갔을 수 있으므로 보내지 않음
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<MailOutboxEntity> mailOutboxEntities = new ArrayList<>();
+        for (MailOutboxEntity mailOutboxEntity : mailOutboxRepository.findAllById(ids))
+            if ("Sending".equals(mailOutboxEntity.getStatus())
+                    && mailOutboxEntity.getNextAttemptAt().isAfter(startedAt))
+                mailOutboxEntities.add(mailOutboxEntity);
+
+        if (mailOutboxEntities.isEmpty())
+            return;
+
+        // SMTP 발송 시간만큼 점유 시간을 다시 확보
+        mailOutboxRepository.renewLease(mailOutboxEntities.stream().map(MailOutboxEntity::getId).toList(),
+                startedAt, startedAt.plusSeconds(leaseSeconds));
+
+        Exception[] failures = emailProvider.send(mailOutboxEntities);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int index = 0; index < mailOutboxEntities.size(); index++) {
+
+            MailOutboxEntity mailOutboxEntity = mailOutboxEntities.get(index);
+            Long id = mailOutboxEntity.getId();
+            int attempts = mailOutboxEntity.getAttempts() + 1;
+
+            Exception exception = failures[index];
+            if (exception == null) {
+                mailOutboxRepository.updateStatus(id, "Sent", attempts, now, null, now);
+                continue;
+            }
+
+            exception.printStackTrace();
+
+            String lastError = String.valueOf(exception.getMessage());
+            if (lastError.length() > MAX_ERROR_LENGTH)
+                lastError = lastError.substring(0, MAX_ERROR_LENGTH);
+
+            if (attempts >= maxAttempts) {
+                mailOutboxRepository.updateStatus(id, "Dead", attempts, now, lastError, now);
+                continue;
+            }
+
+            // 30초, 60초, 120초 ... 간격으로 재시도
+            LocalDateTime nextAttemptAt = now.plusSeconds(backoffSeconds << (attempts - 1));
+            mailOutboxRepository.updateStatus(id, "Pending", attempts, nextAttemptAt, lastError, now);
+        }
+
+    }
+
+    @Scheduled(fixedDelayString = "PT1H")
+    public void purge() {
+        mailOutboxRepository.deleteFinished(LocalDateTime.now().minusDays(retentionDays));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,220 @@
+package com.rockbot.back.provider;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.rockbot.back.entity.NotificationEntity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 사용자별 알림 SSE 구독 관리.
+ * 알림이 저장되면 같은 사용자의 모든 구독에 전달한다. 구독마다 크기가 제한된 버퍼를 두고 전용 스레드 풀에서
+ * 순서대로 전송하며, 버퍼가 가득 찬 느린 구독은 연결을 끊는다. 끊긴 클라이언트는 재접속 시 DB의 미확인
+ * 알림을 다시 받는다.
+ */
+@Component
+public class NotificationHubProvider {
+
+    public static final String BACKLOG_EVENT = "backlog";
+    public static final String NOTIFICATION_EVENT = "notification";
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final int bufferSize;
+
+    private final Counter droppedCounter;
+
+    public NotificationHubProvider(
+            MeterRegistry meterRegistry,
+            @Value("${notification-hub.pool-size:4}") int poolSize,
+            @Value("${notification-hub.timeout-minutes:30}") long timeoutMinutes,
+            @Value("${notification-hub.buffer-size:100}") int bufferSize) {
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("notification-hub-"));
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.bufferSize = bufferSize;
+
+        this.droppedCounter = Counter.builder("notification.hub.dropped").register(meterRegistry);
+        Gauge.builder("notification.hub.subscribers", subscribers,
+                map -> map.values().stream().mapToInt(Set::size).sum())
+                .register(meterRegistry);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "notification-hub");
+    }
+
+    // 구독을 먼저 등록한 뒤 미확인 알림을 조회해서 전송하므로 그 사이 저장된 알림도 빠지지 않음
+    // (같은 알림이 backlog와 notification 이벤트로 두 번 올 수 있으므로 클라이언트는 ID로 중복 제거)
+    public SseEmitter subscribe(String userId, Supplier<List<NotificationEntity>> backlogLoader) {
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        emitter.onCompletion(subscriber::remove);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(exception -> subscriber.close());
+
+        subscribers.compute(userId, (key, userSubscribers) -> {
+            if (userSubscribers == null)
+                userSubscribers = ConcurrentHashMap.newKeySet();
+            userSubscribers.add(subscriber);
+            return userSubscribers;
+        });
+
+        try {
+            subscriber.offer(SseEmitter.event().name(BACKLOG_EVENT).data(backlogLoader.get()));
+        } catch (RuntimeException exception) {
+            subscriber.close();
+            throw exception;
+        }
+
+        return emitter;
+
+    }
+
+    // 알림 저장 이후 호출 (트랜잭션 안이면 커밋 이후 전송)
+    public void publish(NotificationEntity notification) {
+        publish(List.of(notification));
+    }
+
+    public void publish(Collection<NotificationEntity> notifications) {
+
+        List<NotificationEntity> targets = List.copyOf(notifications);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(targets);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(targets);
+            }
+        });
+
+    }
+
+    // 프록시 등에서 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+    @Scheduled(fixedDelayString = "${notification-hub.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> userSubscribers : subscribers.values())
+            for (Subscriber subscriber : userSubscribers)
+                subscriber.offer(SseEmitter.event().comment("heartbeat"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Set<Subscriber> userSubscribers : subscribers.values())
+            for (Subscriber subscriber : userSubscribers)
+                subscriber.emitter.complete();
+        executor.shutdown();
+    }
+
+    private void send(List<NotificationEntity> notifications) {
+        for (NotificationEntity notification : notifications) {
+            Set<Subscriber> userSubscribers = subscribers.get(notification.getUserId());
+            if (userSubscribers == null)
+                continue;
+            for (Subscriber subscriber : userSubscribers)
+                subscriber.offer(SseEmitter.event().name(NOTIFICATION_EVENT).data(notification));
+        }
+    }
+
+    private class Subscriber {
+
+        private final String userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(String userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEventBuilder event) {
+
+            if (closed.get())
+                return;
+
+            if (!buffer.offer(event)) {
+                droppedCounter.increment();
+                close();
+                return;
+            }
+
+            schedule();
+
+        }
+
+        // 구독마다 한 번에 하나의 전송 작업만 실행해서 이벤트 순서를 유지
+        private void schedule() {
+            if (draining.compareAndSet(false, true))
+                executor.execute(this::drain);
+        }
+
+        private void drain() {
+
+            try {
+                SseEventBuilder event;
+                while (!closed.get() && (event = buffer.poll()) != null)
+                    emitter.send(event);
+            } catch (IOException | IllegalStateException exception) {
+                close();
+            } finally {
+                draining.set(false);
+                if (!closed.get() && !buffer.isEmpty())
+                    schedule();
+            }
+
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true))
+                return;
+            remove();
+            buffer.clear();
+            emitter.complete();
+        }
+
+        void remove() {
+            closed.set(true);
+            subscribers.computeIfPresent(userId, (key, userSubscribers) -> {
+                userSubscribers.remove(this);
+                return userSubscribers.isEmpty() ? null : userSubscribers;
+            });
+        }
+
+    }
+
+}
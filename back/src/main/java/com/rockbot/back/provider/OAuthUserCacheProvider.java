@@ -0,0 +1,61 @@
+package com.rockbot.back.provider;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rockbot.back.entity.UserEntity;
+
+/**
+ * 최근 로그인한 OAuth 사용자 정보. 프로필(이름, 이메일)이 그대로인 재로그인은
+ * 사용자 테이블을 조회하거나 쓰지 않고 이 캐시로 처리한다.
+ */
+@Component
+public class OAuthUserCacheProvider {
+
+    public record OAuthUser(String name, String email, String role, int departmentId) {
+
+        public OAuthUser(UserEntity userEntity) {
+            this(userEntity.getName(), userEntity.getEmail(), userEntity.getRole(), userEntity.getDepartmentId());
+        }
+
+    }
+
+    private final Cache<String, OAuthUser> oAuthUsers;
+
+    public OAuthUserCacheProvider(
+            @Value("${oauth-user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${oauth-user-cache.expire-after-write-hours:24}") long expireAfterWriteHours) {
+
+        this.oAuthUsers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofHours(expireAfterWriteHours))
+                .build();
+    }
+
+    public OAuthUser get(String userId) {
+        return oAuthUsers.getIfPresent(userId);
+    }
+
+    public void put(String userId, OAuthUser oAuthUser) {
+        oAuthUsers.put(userId, oAuthUser);
+    }
+
+    // 관리자가 role 또는 부서를 변경했을 때 호출
+    public void invalidate(String userId) {
+        oAuthUsers.invalidate(userId);
+    }
+
+    public void invalidate(Collection<String> userIds) {
+        oAuthUsers.invalidateAll(userIds);
+    }
+
+    public void invalidateAll() {
+        oAuthUsers.invalidateAll();
+    }
+
+}
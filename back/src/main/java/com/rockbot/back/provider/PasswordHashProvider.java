@@ -0,0 +1,114 @@
+package com.rockbot.back.provider;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * BCrypt 해시를 요청 스레드가 아닌 전용 스레드 풀에서 수행한다.
+ * 큐가 가득 차거나 제한 시간 안에 끝나지 않으면 RejectedExecutionException을 던져 호출 측이 503으로 응답하게 한다.
+ * 큐 길이와 대기 시간을 짧게 두어 로그인이 몰려도 해시를 기다리며 멈춰 있는 Tomcat 스레드 수가 제한된다.
+ */
+@Component
+public class PasswordHashProvider {
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+
+    private enum Operation {
+        ENCODE, MATCHES
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+    private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHashProvider(
+            MeterRegistry meterRegistry,
+            @Value("${password-hash.pool-size:4}") int poolSize,
+            @Value("${password-hash.queue-capacity:8}") int queueCapacity,
+            @Value("${password-hash.wait-timeout-ms:2000}") long waitTimeoutMillis) {
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        for (Operation operation : Operation.values())
+            timers.put(operation, Timer.builder("password.hash")
+                    .tag("operation", operation.name().toLowerCase(Locale.ROOT)).register(meterRegistry));
+        this.rejectedCounter = Counter.builder("password.hash.rejected").tag("reason", "queue-full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("password.hash.rejected").tag("reason", "timeout")
+                .register(meterRegistry);
+
+        // 큐 길이, 활성 스레드 수 등 실행기 지표
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hash");
+    }
+
+    public String encode(String rawPassword) {
+        return execute(Operation.ENCODE, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(Operation.MATCHES, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T execute(Operation operation, Callable<T> task) {
+
+        Timer timer = timers.get(operation);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException exception) {
+            rejectedCounter.increment();
+            throw exception;
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            // 큐에 남아 있으면 실행되지 않도록 취소하고 503으로 응답
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new RejectedExecutionException(exception);
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException(exception.getCause());
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.rockbot.back.provider;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rockbot.back.entity.UserEntity;
+import com.rockbot.back.repository.UserRepository;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 토큰(subject + jti) 단위로 인증 주체의 role을 캐시한다.
+ * role이 토큰 클레임에 포함되어 있으면 DB를 조회하지 않고, 클레임이 없는 이전 토큰이거나
+ * 발급 이후 사용자의 role/부서가 변경된 경우에만 사용자 테이블을 조회한다.
+ */
+@Component
+public class PrincipalCacheProvider {
+
+    // 액세스 토큰 유효 시간보다 오래된 무효화 기록은 의미가 없음
+    private static final Duration INVALIDATION_RETENTION = Duration.ofHours(1);
+
+    private final UserRepository userRepository;
+
+    private final Cache<String, String> roleCache;
+    private final Cache<String, Long> invalidations;
+    // 부서 단위 변경처럼 대상 사용자를 특정하지 않은 무효화 시각
+    private volatile long invalidatedAllAt = -1;
+
+    public PrincipalCacheProvider(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${principal-cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds) {
+
+        this.userRepository = userRepository;
+
+        this.roleCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+
+        this.invalidations = Caffeine.newBuilder()
+                .expireAfterWrite(INVALIDATION_RETENTION)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, roleCache, "principal");
+    }
+
+    public String getRole(Claims claims) {
+
+        String userId = claims.getSubject();
+        String cacheKey = getCacheKey(userId, claims.getId());
+
+        String role = roleCache.getIfPresent(cacheKey);
+        if (role != null)
+            return role;
+
+        role = claims.get("role", String.class);
+        if (role == null || isInvalidated(userId, claims.getIssuedAt())) {
+            UserEntity userEntity = userRepository.findByUserId(userId);
+            if (userEntity == null)
+                return null;
+            role = userEntity.getRole();
+        }
+
+        roleCache.put(cacheKey, role);
+        return role;
+
+    }
+
+    // 사용자의 role 또는 부서가 변경되었을 때 호출
+    public void invalidate(String userId) {
+
+        invalidations.put(userId, System.currentTimeMillis());
+
+        String prefix = getCacheKey(userId, "");
+        roleCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+
+    }
+
+    public void invalidate(Collection<String> userIds) {
+
+        long now = System.currentTimeMillis();
+        for (String userId : userIds)
+            invalidations.put(userId, now);
+
+        Set<String> userIdSet = Set.copyOf(userIds);
+        roleCache.asMap().keySet().removeIf(key -> userIdSet.contains(key.substring(0, key.lastIndexOf(':'))));
+
+    }
+
+    // 대상 사용자 목록 없이 변경한 경우 호출 : 이전에 발급된 모든 토큰을 한 번씩 DB로 확인
+    public void invalidateAll() {
+        invalidatedAllAt = System.currentTimeMillis();
+        roleCache.invalidateAll();
+    }
+
+    private boolean isInvalidated(String userId, Date issuedAt) {
+
+        long allAt = invalidatedAllAt;
+        if (allAt >= 0 && System.currentTimeMillis() - allAt < INVALIDATION_RETENTION.toMillis()
+                && (issuedAt == null || issuedAt.getTime() <= allAt))
+            return true;
+
+        Long invalidatedAt = invalidations.getIfPresent(userId);
+        if (invalidatedAt == null)
+            return false;
+
+        // iat는 초 단위로 잘리므로 같은 초에 발급된 토큰도 무효화된 것으로 취급
+        return issuedAt == null || issuedAt.getTime() <= invalidatedAt;
+
+    }
+
+    private String getCacheKey(String userId, String tokenId) {
+        return userId + ":" + tokenId;
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.rockbot.back.provider;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 키(엔드포인트 + IP 또는 사용자 ID)별 토큰 버킷 저장소.
+ * 버킷은 키 단위로만 잠그므로 서로 다른 클라이언트끼리는 경합하지 않고,
+ * 일정 시간 사용되지 않은 버킷은 제거되어 메모리 사용량이 제한된다.
+ */
+@Component
+public class RateLimitProvider {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitProvider(
+            @Value("${rate-limit.maximum-buckets:100000}") long maximumBuckets,
+            @Value("${rate-limit.idle-timeout-minutes:10}") long idleTimeoutMinutes) {
+
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumBuckets)
+                .expireAfterAccess(Duration.ofMinutes(idleTimeoutMinutes))
+                .build();
+    }
+
+    // 토큰을 얻으면 0, 아니면 다시 시도할 수 있을 때까지의 초를 반환
+    public long tryConsume(String key, int capacity, int refillPerMinute) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, refillPerMinute));
+        return bucket.tryConsume();
+    }
+
+    private static class TokenBucket {
+
+        private final int capacity;
+        private final double refillPerNano;
+
+        private double tokens;
+        private long lastRefillTime;
+
+        private TokenBucket(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerMinute / (double) Duration.ofMinutes(1).toNanos();
+            this.tokens = capacity;
+            this.lastRefillTime = System.nanoTime();
+        }
+
+        private synchronized long tryConsume() {
+
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillTime) * refillPerNano);
+            lastRefillTime = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+
+            double waitNanos = (1 - tokens) / refillPerNano;
+            return Math.max(1, (long) Math.ceil(waitNanos / Duration.ofSeconds(1).toNanos()));
+
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.rockbot.back.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rockbot.back.entity.RefreshTokenEntity;
+import com.rockbot.back.repository.RefreshTokenRepository;
+import com.rockbot.back.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenProvider {
+
+    public static final String COOKIE_NAME = "refreshToken";
+    // 토큰 교체/로그아웃 요청에만 전송되도록 경로 제한
+    private static final String COOKIE_PATH = "/api/v1/auth";
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+
+    @Value("${refresh-token.expiration-days:14}")
+    private long expirationDays;
+
+    @Value("${refresh-token.cookie-secure:true}")
+    private boolean cookieSecure;
+
+    // 새 로그인 : 새로운 토큰 계열 시작
+    public String create(String userId) {
+        return create(userId, UUID.randomUUID().toString());
+    }
+
+    // 토큰 교체 : 기존 계열을 이어감
+    public String create(String userId, String familyId) {
+
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        RefreshTokenEntity refreshTokenEntity = new RefreshTokenEntity(
+                hash(refreshToken), userRepository.getReferenceById(userId), familyId, false,
+                now.plusDays(expirationDays), now);
+        refreshTokenRepository.save(refreshTokenEntity);
+
+        return refreshToken;
+
+    }
+
+    public String hash(String refreshToken) {
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] digest = messageDigest.digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+
+    }
+
+    // 스크립트에서 읽을 수 없는 HttpOnly 쿠키로 전달
+    public ResponseCookie createCookie(String refreshToken) {
+        return ResponseCookie.from(COOKIE_NAME, refreshToken)
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Strict")
+                .path(COOKIE_PATH)
+                .maxAge(getExpirationTime())
+                .build();
+    }
+
+    public ResponseCookie expireCookie() {
+        return ResponseCookie.from(COOKIE_NAME, "")
+                .httpOnly(true)
+                .secure(cookieSecure)
+                .sameSite("Strict")
+                .path(COOKIE_PATH)
+                .maxAge(0)
+                .build();
+    }
+
+    public int getExpirationTime() {
+        return (int) Duration.ofDays(expirationDays).toSeconds();
+    }
+
+    // 만료된 토큰 정리 (expires_at 인덱스 사용)
+    @Scheduled(fixedDelayString = "PT1H")
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.rockbot.back.provider;
+
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * 인증(AUTH, STARTTLS)이 끝난 SMTP 연결을 풀에 보관했다가 여러 메일 발송에 재사용한다.
+ * 한 번 빌린 연결로 여러 메일을 연속으로 보내므로 메일마다 연결을 새로 맺지 않는다.
+ */
+@Component
+public class SmtpTransportPool {
+
+    private static class PooledTransport {
+
+        private final Transport transport;
+        private long lastUsedAt;
+        private int sentCount;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+
+    }
+
+    private final JavaMailSenderImpl javaMailSender;
+
+    private final Semaphore permits;
+    private final Deque<PooledTransport> idleTransports = new ConcurrentLinkedDeque<>();
+
+    private final long idleTimeoutMillis;
+    private final int maxMessagesPerConnection;
+
+    public SmtpTransportPool(
+            JavaMailSenderImpl javaMailSender,
+            @Value("${smtp-pool.max-connections:4}") int maxConnections,
+            @Value("${smtp-pool.idle-timeout-seconds:60}") long idleTimeoutSeconds,
+            @Value("${smtp-pool.max-messages-per-connection:100}") int maxMessagesPerConnection) {
+
+        this.javaMailSender = javaMailSender;
+        this.permits = new Semaphore(maxConnections);
+        this.idleTimeoutMillis = idleTimeoutSeconds * 1000;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+    }
+
+    public MimeMessage createMimeMessage() {
+        return javaMailSender.createMimeMessage();
+    }
+
+    // 메일별 발송 결과를 반환 (성공 : null, 실패 : 예외)
+    public Exception[] send(List<MimeMessage> messages) {
+
+        Exception[] failures = new Exception[messages.size()];
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            Arrays.fill(failures, exception);
+            return failures;
+        }
+
+        PooledTransport pooledTransport = null;
+        int index = 0;
+
+        try {
+
+            pooledTransport = borrow();
+
+            for (; index < messages.size(); index++) {
+
+                // 서버가 허용하는 연결당 메일 수를 넘기지 않도록 교체
+                if (pooledTransport.sentCount >= maxMessagesPerConnection) {
+                    close(pooledTransport);
+                    pooledTransport = connect();
+                }
+
+                MimeMessage message = messages.get(index);
+
+                try {
+                    message.saveChanges();
+                    pooledTransport.transport.sendMessage(message, message.getAllRecipients());
+                    pooledTransport.sentCount++;
+                } catch (MessagingException exception) {
+                    failures[index] = exception;
+
+                    // 수신자 오류가 아니라 연결이 끊긴 경우에만 다시 연결
+                    if (!pooledTransport.transport.isConnected()) {
+                        close(pooledTransport);
+                        pooledTransport = connect();
+                    }
+                }
+
+            }
+
+        } catch (MessagingException exception) {
+            // 연결 자체에 실패하면 아직 보내지 못한 메일을 모두 실패로 처리
+            for (int rest = index; rest < failures.length; rest++)
+                if (failures[rest] == null)
+                    failures[rest] = exception;
+            pooledTransport = null;
+        } finally {
+            release(pooledTransport);
+            permits.release();
+        }
+
+        return failures;
+
+    }
+
+    @Scheduled(fixedDelayString = "PT30S")
+    public void evictIdle() {
+
+        long now = System.currentTimeMillis();
+        Iterator<PooledTransport> iterator = idleTransports.descendingIterator();
+
+        while (iterator.hasNext()) {
+            PooledTransport pooledTransport = iterator.next();
+            if (now - pooledTransport.lastUsedAt < idleTimeoutMillis)
+                continue;
+            if (idleTransports.removeFirstOccurrence(pooledTransport))
+                close(pooledTransport);
+        }
+
+    }
+
+    @PreDestroy
+    public void shutdown() {
+
+        PooledTransport pooledTransport;
+        while ((pooledTransport = idleTransports.pollFirst()) != null)
+            close(pooledTransport);
+
+    }
+
+    private PooledTransport borrow() throws MessagingException {
+
+        long now = System.currentTimeMillis();
+        PooledTransport pooledTransport;
+
+        // 가장 최근에 쓴 연결부터 사용 (오래된 연결은 유휴 정리 대상으로 남김)
+        while ((pooledTransport = idleTransports.pollFirst()) != null) {
+            if (now - pooledTransport.lastUsedAt < idleTimeoutMillis && pooledTransport.transport.isConnected())
+                return pooledTransport;
+            close(pooledTransport);
+        }
+
+        return connect();
+
+    }
+
+    private void release(PooledTransport pooledTransport) {
+
+        if (pooledTransport == null)
+            return;
+
+        pooledTransport.lastUsedAt = System.currentTimeMillis();
+        idleTransports.offerFirst(pooledTransport);
+
+    }
+
+    private PooledTransport connect() throws MessagingException {
+
+        Transport transport = javaMailSender.getSession().getTransport(javaMailSender.getProtocol());
+        transport.connect(javaMailSender.getHost(), javaMailSender.getPort(),
+                javaMailSender.getUsername(), javaMailSender.getPassword());
+
+        return new PooledTransport(transport);
+
+    }
+
+    private void close(PooledTransport pooledTransport) {
+
+        try {
+            pooledTransport.transport.close();
+        } catch (MessagingException exception) {
+            // 이미 끊어진 연결
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.rockbot.back.provider;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rockbot.back.entity.TravelEntity;
+import com.rockbot.back.repository.TravelRequestRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출장 요청 내보내기.
+ * 결과를 목록으로 모으지 않고 한 행씩 읽어 바로 응답 스트림에 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 분리해서
+ * 행 수와 관계없이 메모리 사용량이 일정하게 유지되도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TravelExportProvider {
+
+    public static final String CSV = "csv";
+    public static final String NDJSON = "ndjson";
+
+    private static final String[] CSV_HEADER = { "requestId", "userId", "name", "departmentId", "destination",
+            "travelDate", "returnDate", "reason", "status", "submissionDate" };
+
+    // 엑셀에서 한글이 깨지지 않도록 BOM을 붙임
+    private static final String UTF8_BOM = "\uFEFF";
+    // 스프레드시트가 수식으로 해석하는 첫 글자
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final TravelRequestRepository travelRequestRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void export(String format, boolean gzip, String status, Integer departmentId, LocalDateTime fromDate,
+            LocalDateTime toDate, OutputStream outputStream) throws IOException {
+
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 8192);
+
+        // 행마다 flush하면 버퍼와 gzip 블록이 잘게 쪼개지므로 끝에서 한 번만 flush
+        ObjectWriter jsonWriter = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        if (CSV.equals(format)) {
+            writer.write(UTF8_BOM);
+            writeCsvRow(writer, (Object[]) CSV_HEADER);
+        }
+
+        try (Stream<TravelEntity> travelEntities = travelRequestRepository.streamTravelRequests(status,
+                departmentId, fromDate, toDate)) {
+
+            Iterator<TravelEntity> iterator = travelEntities.iterator();
+            while (iterator.hasNext()) {
+
+                TravelEntity travelEntity = iterator.next();
+
+                if (CSV.equals(format)) {
+                    writeCsvRow(writer, travelEntity.getRequestId(), travelEntity.getUserId(), travelEntity.getName(),
+                            travelEntity.getDepartmentId(), travelEntity.getDestination(),
+                            travelEntity.getTravelDate(), travelEntity.getReturnDate(), travelEntity.getReason(),
+                            travelEntity.getStatus(), travelEntity.getSubmissionDate());
+                } else {
+                    jsonWriter.writeValue(writer, travelEntity);
+                    writer.write('\n');
+                }
+
+                entityManager.detach(travelEntity);
+
+            }
+
+        }
+
+        writer.flush();
+        if (gzip)
+            ((GZIPOutputStream) target).finish();
+
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0)
+                writer.write(',');
+            writer.write(escapeCsv(values[index]));
+        }
+        writer.write("\r\n");
+
+    }
+
+    private String escapeCsv(Object value) {
+
+        if (value == null)
+            return "";
+
+        String text = value.toString();
+
+        // 사용자가 입력한 문자열이 수식으로 실행되지 않도록 앞에 '를 붙임 (CSV injection)
+        if (value instanceof String && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0)
+            text = "'" + text;
+
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0)
+            return text;
+
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+
+    }
+
+}
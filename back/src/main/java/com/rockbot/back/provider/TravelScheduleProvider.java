@@ -0,0 +1,393 @@
+package com.rockbot.back.provider;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.rockbot.back.common.TravelStatus;
+import com.rockbot.back.entity.TravelEntity;
+import com.rockbot.back.repository.TravelRequestRepository;
+import com.rockbot.back.repository.resultSet.TravelRequestChangeResultSet;
+import com.rockbot.back.repository.resultSet.TravelRequestListResultSet;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부서별 출장 일정 구간 트리.
+ * 거절되지 않은 출장 요청을 (출장일, 요청 ID) 순서의 treap에 저장하고 각 노드에 하위 트리의 최대 복귀일을
+ * 유지해서, 특정 기간에 겹치는 일정을 O(log n + k)로 찾는다.
+ * 사용자별 일정 목록도 함께 유지해서 신청 시 본인 일정과의 중복을 확인한다.
+ * 색인에는 아직 끝나지 않은 출장만 두고, 지난 기간이 포함된 조회는 DB에서 읽는다.
+ * 초기 적재 이후에는 변경 피드(change_seq)를 따라가며 반영하므로 다른 노드나 챗봇이 직접 넣은 요청도
+ * travel-schedule.sync-interval-ms 이내에 반영되고, 이 노드에서 커밋한 변경은 커밋 직후 바로 따라잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TravelScheduleProvider {
+
+    public record TravelSchedule(Long requestId, String userId, String name, int departmentId, String destination,
+            LocalDate travelDate, LocalDate returnDate, String status) {
+    }
+
+    private static final int SYNC_PAGE_SIZE = 500;
+
+    private static final List<String> ACTIVE_STATUSES = List.of(TravelStatus.PENDING.getValue(),
+            TravelStatus.APPROVED.getValue());
+    private static final List<String> APPROVED_STATUSES = List.of(TravelStatus.APPROVED.getValue());
+
+    private final TravelRequestRepository travelRequestRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, IntervalTree> departments = new HashMap<>();
+    private final Map<String, List<TravelSchedule>> users = new HashMap<>();
+    private final Map<Long, TravelSchedule> schedules = new HashMap<>();
+
+    // 이 날짜 이후에 끝나는 일정만 색인에 있음
+    private volatile LocalDate indexedFrom = LocalDate.now();
+
+    // 변경 피드에서 마지막으로 반영한 위치 (syncLock 안에서만 접근)
+    private final Object syncLock = new Object();
+    private long cursorChangeSeq;
+    private long cursorRequestId;
+
+    @PostConstruct
+    public void init() {
+        try {
+            synchronized (syncLock) {
+                // 적재 전에 커밋된 순번을 읽어두면 적재와 겹쳐 커밋된 변경은 피드에서 다시 반영됨
+                cursorChangeSeq = travelRequestRepository.getChangeSeq();
+                cursorRequestId = 0;
+                for (TravelEntity travelEntity : travelRequestRepository.findNotEndedList(ACTIVE_STATUSES,
+                        indexedFrom))
+                    putNow(travelEntity.getRequestId(), toSchedule(travelEntity));
+            }
+        } catch (Exception exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    // 출장 요청 저장 또는 상태 변경 트랜잭션 안에서 호출 (커밋 이후 변경 피드를 따라잡음)
+    public void syncAfterCommit() {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sync();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sync();
+            }
+        });
+
+    }
+
+    // 변경 피드를 순번 순서대로 끝까지 반영
+    @Scheduled(fixedDelayString = "${travel-schedule.sync-interval-ms:5000}")
+    public void sync() {
+
+        try {
+            synchronized (syncLock) {
+                List<TravelRequestChangeResultSet> changes;
+                do {
+                    changes = travelRequestRepository.findChangeList(cursorChangeSeq, cursorRequestId,
+                            PageRequest.of(0, SYNC_PAGE_SIZE));
+                    for (TravelRequestChangeResultSet change : changes) {
+                        putNow(change.getRequestId(), toSchedule(change));
+                        cursorChangeSeq = change.getChangeSeq();
+                        cursorRequestId = change.getRequestId();
+                    }
+                } while (changes.size() == SYNC_PAGE_SIZE);
+            }
+        } catch (Exception exception) {
+            exception.printStackTrace();
+        }
+
+    }
+
+    // 끝난 출장을 색인에서 제거
+    @Scheduled(cron = "${travel-schedule.evict-cron:0 5 0 * * *}")
+    public void evictEnded() {
+
+        LocalDate today = LocalDate.now();
+
+        lock.writeLock().lock();
+        try {
+            indexedFrom = today;
+            for (TravelSchedule schedule : new ArrayList<>(schedules.values()))
+                if (schedule.returnDate().isBefore(today))
+                    remove(schedule.requestId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+    }
+
+    // 부서 내에서 [fromDate, toDate] 기간과 겹치는 일정 (양 끝 포함)
+    public List<TravelSchedule> findByDepartment(int departmentId, LocalDate fromDate, LocalDate toDate,
+            boolean includePending) {
+
+        List<TravelSchedule> result = new ArrayList<>();
+
+        if (fromDate.isBefore(indexedFrom)) {
+            List<String> statuses = includePending ? ACTIVE_STATUSES : APPROVED_STATUSES;
+            for (TravelEntity travelEntity : travelRequestRepository.findOverlapListByDepartment(departmentId,
+                    statuses, fromDate, toDate))
+                result.add(toSchedule(travelEntity));
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            IntervalTree tree = departments.get(departmentId);
+            if (tree != null)
+                tree.findOverlaps(fromDate, toDate, result);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!includePending)
+            result.removeIf(schedule -> !TravelStatus.APPROVED.getValue().equals(schedule.status()));
+        return result;
+
+    }
+
+    // 같은 사용자의 일정 중 [fromDate, toDate] 기간과 겹치는 일정
+    public List<TravelSchedule> findByUser(String userId, LocalDate fromDate, LocalDate toDate) {
+
+        List<TravelSchedule> result = new ArrayList<>();
+
+        if (fromDate.isBefore(indexedFrom)) {
+            for (TravelEntity travelEntity : travelRequestRepository.findOverlapListByUser(userId, ACTIVE_STATUSES,
+                    fromDate, toDate))
+                result.add(toSchedule(travelEntity));
+            return result;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<TravelSchedule> userSchedules = users.get(userId);
+            if (userSchedules == null)
+                return result;
+            for (TravelSchedule schedule : userSchedules)
+                if (!schedule.travelDate().isAfter(toDate) && !schedule.returnDate().isBefore(fromDate))
+                    result.add(schedule);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return result;
+
+    }
+
+    private TravelSchedule toSchedule(TravelEntity travelEntity) {
+        return toSchedule(travelEntity.getRequestId(), travelEntity.getUserId(), travelEntity.getName(),
+                travelEntity.getDepartmentId(), travelEntity.getDestination(), travelEntity.getTravelDate(),
+                travelEntity.getReturnDate(), travelEntity.getStatus());
+    }
+
+    private TravelSchedule toSchedule(TravelRequestListResultSet resultSet) {
+        return toSchedule(resultSet.getRequestId(), resultSet.getUserId(), resultSet.getName(),
+                resultSet.getDepartmentId(), resultSet.getDestination(), resultSet.getTravelDate(),
+                resultSet.getReturnDate(), resultSet.getStatus());
+    }
+
+    // 거절되었거나 출장일이 없는 요청은 null
+    private TravelSchedule toSchedule(Long requestId, String userId, String name, int departmentId,
+            String destination, LocalDate travelDate, LocalDate returnDate, String status) {
+
+        TravelStatus travelStatus = TravelStatus.from(status);
+        if (travelStatus == null || travelStatus == TravelStatus.REJECTED || travelDate == null)
+            return null;
+
+        return new TravelSchedule(requestId, userId, name, departmentId, destination, travelDate,
+                returnDate == null ? travelDate : returnDate, status);
+
+    }
+
+    // 기존 일정을 지우고, 색인 대상이면 다시 넣음
+    private void putNow(Long requestId, TravelSchedule schedule) {
+
+        lock.writeLock().lock();
+        try {
+
+            remove(requestId);
+
+            if (schedule == null || schedule.returnDate().isBefore(indexedFrom))
+                return;
+
+            schedules.put(schedule.requestId(), schedule);
+            departments.computeIfAbsent(schedule.departmentId(), key -> new IntervalTree()).insert(schedule);
+            users.computeIfAbsent(schedule.userId(), key -> new ArrayList<>()).add(schedule);
+
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+    }
+
+    private void remove(Long requestId) {
+
+        TravelSchedule schedule = schedules.remove(requestId);
+        if (schedule == null)
+            return;
+
+        IntervalTree tree = departments.get(schedule.departmentId());
+        tree.delete(schedule);
+        if (tree.isEmpty())
+            departments.remove(schedule.departmentId());
+
+        List<TravelSchedule> userSchedules = users.get(schedule.userId());
+        userSchedules.removeIf(userSchedule -> userSchedule.requestId().equals(requestId));
+        if (userSchedules.isEmpty())
+            users.remove(schedule.userId());
+
+    }
+
+    // (출장일, 요청 ID)를 키로 하는 treap, 노드마다 하위 트리의 최대 복귀일을 유지
+    private static class IntervalTree {
+
+        private static class Node {
+
+            private final TravelSchedule schedule;
+            private final int priority = ThreadLocalRandom.current().nextInt();
+            private Node left;
+            private Node right;
+            private LocalDate maxReturnDate;
+
+            Node(TravelSchedule schedule) {
+                this.schedule = schedule;
+                this.maxReturnDate = schedule.returnDate();
+            }
+
+        }
+
+        private Node root;
+
+        boolean isEmpty() {
+            return root == null;
+        }
+
+        void insert(TravelSchedule schedule) {
+            Node[] parts = split(root, schedule);
+            root = merge(merge(parts[0], new Node(schedule)), parts[1]);
+        }
+
+        void delete(TravelSchedule schedule) {
+            root = delete(root, schedule);
+        }
+
+        void findOverlaps(LocalDate fromDate, LocalDate toDate, List<TravelSchedule> result) {
+            findOverlaps(root, fromDate, toDate, result);
+        }
+
+        private void findOverlaps(Node node, LocalDate fromDate, LocalDate toDate, List<TravelSchedule> result) {
+
+            // 하위 트리의 모든 일정이 조회 시작일 이전에 끝남
+            if (node == null || node.maxReturnDate.isBefore(fromDate))
+                return;
+
+            findOverlaps(node.left, fromDate, toDate, result);
+
+            // 오른쪽 하위 트리는 모두 이 노드보다 늦게 시작하므로 더 볼 필요가 없음
+            if (node.schedule.travelDate().isAfter(toDate))
+                return;
+
+            if (!node.schedule.returnDate().isBefore(fromDate))
+                result.add(node.schedule);
+
+            findOverlaps(node.right, fromDate, toDate, result);
+
+        }
+
+        private Node delete(Node node, TravelSchedule schedule) {
+
+            if (node == null)
+                return null;
+
+            int comparison = compare(schedule, node.schedule);
+            if (comparison == 0)
+                return merge(node.left, node.right);
+
+            if (comparison < 0)
+                node.left = delete(node.left, schedule);
+            else
+                node.right = delete(node.right, schedule);
+
+            update(node);
+            return node;
+
+        }
+
+        // key보다 작은 노드와 크거나 같은 노드로 분리
+        private Node[] split(Node node, TravelSchedule key) {
+
+            if (node == null)
+                return new Node[] { null, null };
+
+            if (compare(node.schedule, key) < 0) {
+                Node[] parts = split(node.right, key);
+                node.right = parts[0];
+                update(node);
+                return new Node[] { node, parts[1] };
+            }
+
+            Node[] parts = split(node.left, key);
+            node.left = parts[1];
+            update(node);
+            return new Node[] { parts[0], node };
+
+        }
+
+        private Node merge(Node left, Node right) {
+
+            if (left == null)
+                return right;
+            if (right == null)
+                return left;
+
+            if (left.priority > right.priority) {
+                left.right = merge(left.right, right);
+                update(left);
+                return left;
+            }
+
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+
+        }
+
+        private void update(Node node) {
+            LocalDate maxReturnDate = node.schedule.returnDate();
+            if (node.left != null && node.left.maxReturnDate.isAfter(maxReturnDate))
+                maxReturnDate = node.left.maxReturnDate;
+            if (node.right != null && node.right.maxReturnDate.isAfter(maxReturnDate))
+                maxReturnDate = node.right.maxReturnDate;
+            node.maxReturnDate = maxReturnDate;
+        }
+
+        private int compare(TravelSchedule first, TravelSchedule second) {
+            int comparison = first.travelDate().compareTo(second.travelDate());
+            if (comparison != 0)
+                return comparison;
+            return first.requestId().compareTo(second.requestId());
+        }
+
+    }
+
+}
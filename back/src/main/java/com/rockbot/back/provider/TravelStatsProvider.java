@@ -0,0 +1,157 @@
+package com.rockbot.back.provider;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.rockbot.back.entity.TravelStatsEntity;
+import com.rockbot.back.repository.TravelStatsRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * (부서, 월, 상태)별 출장 요청 건수.
+ * travel_request_stats는 travel_request의 트리거가 같은 트랜잭션에서 유지하므로
+ * 챗봇처럼 백엔드를 거치지 않는 삽입도 집계된다. 조회는 이 테이블의 메모리 사본만 사용한다.
+ * 사본에는 증감을 더하지 않고 테이블을 통째로 다시 읽어 교체한다.
+ * 이 노드에서 커밋한 변경은 다음 조회 전에 다시 읽어 바로 보이고,
+ * 다른 노드나 외부에서 들어온 변경은 travel-stats.refresh-interval-ms 이내에 보인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TravelStatsProvider {
+
+    // 월 구분 없이 부서별 전체 건수를 담는 키
+    public static final String ALL_MONTHS = "*";
+
+    private final TravelStatsRepository travelStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // month -> departmentId -> status -> count
+    private volatile Map<String, Map<Integer, Map<String, Long>>> counters = Map.of();
+
+    // 사본을 다시 읽어야 할 때마다 증가. loadedGeneration과 다르면 다음 조회에서 다시 읽음
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long loadedGeneration = -1;
+    private final Object loadLock = new Object();
+
+    @PostConstruct
+    public void init() {
+        try {
+            if (travelStatsRepository.count() == 0)
+                reconcile();
+            else
+                refresh();
+        } catch (Exception exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    // 출장 요청을 변경한 트랜잭션 안에서 호출. 커밋 이후 사본을 낡은 것으로 표시
+    public void invalidate() {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            generation.incrementAndGet();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                generation.incrementAndGet();
+            }
+        });
+
+    }
+
+    public Map<Integer, Map<String, Long>> getCounts(String month) {
+
+        Map<Integer, Map<String, Long>> departments = getCounters().get(month);
+        if (departments == null)
+            return new HashMap<>();
+
+        return new HashMap<>(departments);
+
+    }
+
+    public Map<String, Long> getCounts(String month, int departmentId) {
+
+        Map<Integer, Map<String, Long>> departments = getCounters().get(month);
+        if (departments == null)
+            return Map.of();
+
+        return departments.getOrDefault(departmentId, Map.of());
+
+    }
+
+    // 다른 노드와 외부 삽입 반영
+    @Scheduled(fixedDelayString = "${travel-stats.refresh-interval-ms:10000}")
+    public void refresh() {
+        generation.incrementAndGet();
+        load();
+    }
+
+    // 원본 테이블에서 다시 집계해 요약 테이블과 메모리 사본을 교체 (트리거가 어긋난 경우를 대비한 안전장치)
+    @Scheduled(cron = "${travel-stats.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            travelStatsRepository.deleteAllRows();
+            travelStatsRepository.rebuild();
+        });
+        refresh();
+
+    }
+
+    // 다시 읽기에 실패하면 직전 사본으로 응답
+    private Map<String, Map<Integer, Map<String, Long>>> getCounters() {
+        if (loadedGeneration != generation.get()) {
+            try {
+                load();
+            } catch (Exception exception) {
+                exception.printStackTrace();
+            }
+        }
+        return counters;
+    }
+
+    private void load() {
+
+        synchronized (loadLock) {
+
+            // 읽기 시작 전에 세대를 기록. 읽는 도중 커밋된 변경은 세대가 달라져 다음 조회에서 다시 읽힘
+            long targetGeneration = generation.get();
+            if (loadedGeneration == targetGeneration)
+                return;
+
+            Map<String, Map<Integer, Map<String, Long>>> loaded = new HashMap<>();
+            for (TravelStatsEntity travelStatsEntity : travelStatsRepository.findAll()) {
+                int departmentId = travelStatsEntity.getDepartmentId();
+                String status = travelStatsEntity.getStatus();
+                long requestCount = travelStatsEntity.getRequestCount();
+                addCount(loaded, travelStatsEntity.getMonth(), departmentId, status, requestCount);
+                addCount(loaded, ALL_MONTHS, departmentId, status, requestCount);
+            }
+
+            counters = loaded;
+            loadedGeneration = targetGeneration;
+
+        }
+
+    }
+
+    private void addCount(Map<String, Map<Integer, Map<String, Long>>> target, String month, int departmentId,
+            String status, long amount) {
+        target.computeIfAbsent(month, key -> new HashMap<>())
+                .computeIfAbsent(departmentId, key -> new HashMap<>())
+                .merge(status, amount, Long::sum);
+    }
+
+}
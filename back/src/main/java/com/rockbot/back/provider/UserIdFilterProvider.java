@@ -0,0 +1,254 @@
+package com.rockbot.back.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.rockbot.back.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 사용 중인 아이디의 Bloom 필터.
+ * 필터에 없다고 판단된 아이디는 DB를 조회하지 않고, "있을 수도 있음"으로 판단된 경우에만 사용자 테이블을 조회한다.
+ * 필터는 서버마다 따로 유지되므로 다른 서버에서 가입한 아이디는 재구성 전까지 없다고 판단될 수 있다.
+ * 따라서 아이디 중복 확인(id-check) 같은 안내용 조회에만 사용하고, 인증 메일 발송과 가입은 DB로 확인한다.
+ * 삭제를 지원하지 않으므로 탈퇴한 아이디는 재구성 전까지 DB 조회로 처리된다.
+ */
+@Component
+public class UserIdFilterProvider {
+
+    private final UserRepository userRepository;
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    // 재구성 중에 추가된 아이디를 새 필터에도 반영하기 위해 사용
+    private volatile BloomFilter building;
+
+    private final Counter definitelyAbsent;
+    private final Counter mightContain;
+    private final Counter falsePositives;
+    private final Timer rebuildTimer;
+
+    public UserIdFilterProvider(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${userid-filter.expected-insertions:100000}") long expectedInsertions,
+            @Value("${userid-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.definitelyAbsent = Counter.builder("userid.filter.checks").tag("result", "absent")
+                .register(meterRegistry);
+        this.mightContain = Counter.builder("userid.filter.checks").tag("result", "maybe")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("userid.filter.false.positives").register(meterRegistry);
+        this.rebuildTimer = Timer.builder("userid.filter.rebuild").register(meterRegistry);
+
+        Gauge.builder("userid.filter.false.positive.rate", this, UserIdFilterProvider::getObservedFalsePositiveRate)
+                .description("DB 조회로 넘어간 요청 중 실제로는 없는 아이디의 비율")
+                .register(meterRegistry);
+        Gauge.builder("userid.filter.expected.false.positive.rate", this,
+                provider -> provider.filter == null ? 0 : provider.filter.getExpectedFalsePositiveRate())
+                .register(meterRegistry);
+        Gauge.builder("userid.filter.size", this, provider -> provider.filter == null ? 0 : provider.filter.getCount())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    // 아이디 사용 여부 확인 : 필터에 없으면 DB 조회 없이 false
+    public boolean exists(String userId) {
+
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(normalize(userId))) {
+            definitelyAbsent.increment();
+            return false;
+        }
+
+        mightContain.increment();
+        boolean isExistId = userRepository.existsByUserId(userId);
+        if (!isExistId)
+            falsePositives.increment();
+
+        return isExistId;
+
+    }
+
+    // 사용자 INSERT 이후 호출
+    public void put(String userId) {
+
+        String key = normalize(userId);
+
+        BloomFilter current = filter;
+        if (current != null)
+            current.put(key);
+
+        BloomFilter next = building;
+        if (next != null)
+            next.put(key);
+
+    }
+
+    // 예상 크기를 넘어서면 오탐률이 올라가므로 현재 사용자 수에 맞춰 다시 만든다
+    @Scheduled(fixedDelayString = "${userid-filter.check-interval-ms:600000}",
+            initialDelayString = "${userid-filter.check-interval-ms:600000}")
+    public void rebuildIfSaturated() {
+
+        BloomFilter current = filter;
+        if (current == null || current.getCount() > current.getCapacity())
+            rebuild();
+
+    }
+
+    public synchronized void rebuild() {
+
+        long startTime = System.nanoTime();
+
+        try {
+
+            long count = userRepository.count();
+            BloomFilter next = new BloomFilter(Math.max(expectedInsertions, count * 2), falsePositiveRate);
+            building = next;
+
+            List<String> userIds = userRepository.findAllUserIds();
+            for (String userId : userIds)
+                next.put(normalize(userId));
+
+            filter = next;
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+        } finally {
+            building = null;
+            rebuildTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+
+    }
+
+    private double getObservedFalsePositiveRate() {
+        double maybe = mightContain.count();
+        return maybe == 0 ? 0 : falsePositives.count() / maybe;
+    }
+
+    // MySQL 기본 collation은 대소문자를 구분하지 않으므로 소문자로 맞춰서 저장
+    private String normalize(String userId) {
+        return userId.toLowerCase(Locale.ROOT);
+    }
+
+    private static class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+        private final long capacity;
+        private final AtomicLong count = new AtomicLong();
+
+        BloomFilter(long capacity, double falsePositiveRate) {
+
+            long bitSize = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            bitSize = Math.max(64, bitSize);
+
+            this.capacity = capacity;
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+            this.bitSize = bits.length() * 64L;
+            this.hashCount = Math.max(1, (int) Math.round((double) this.bitSize / capacity * Math.log(2)));
+
+        }
+
+        void put(String key) {
+
+            long hash1 = hash(key, 0);
+            long hash2 = hash(key, 0x9E3779B97F4A7C15L) | 1;
+
+            boolean isChanged = false;
+            for (int index = 0; index < hashCount; index++) {
+                long bitIndex = Math.floorMod(hash1 + index * hash2, bitSize);
+                isChanged |= setBit(bitIndex);
+            }
+
+            if (isChanged)
+                count.incrementAndGet();
+
+        }
+
+        boolean mightContain(String key) {
+
+            long hash1 = hash(key, 0);
+            long hash2 = hash(key, 0x9E3779B97F4A7C15L) | 1;
+
+            for (int index = 0; index < hashCount; index++) {
+                long bitIndex = Math.floorMod(hash1 + index * hash2, bitSize);
+                if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0)
+                    return false;
+            }
+            return true;
+
+        }
+
+        long getCount() {
+            return count.get();
+        }
+
+        long getCapacity() {
+            return capacity;
+        }
+
+        double getExpectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-hashCount * (double) count.get() / bitSize), hashCount);
+        }
+
+        private boolean setBit(long bitIndex) {
+
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+
+            while (true) {
+                long word = bits.get(wordIndex);
+                if ((word & mask) != 0)
+                    return false;
+                if (bits.compareAndSet(wordIndex, word, word | mask))
+                    return true;
+            }
+
+        }
+
+        // FNV-1a 후 murmur3 finalizer로 비트를 섞음
+        private static long hash(String key, long seed) {
+
+            long hash = 0xcbf29ce484222325L ^ seed;
+            for (byte value : key.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= value;
+                hash *= 0x100000001b3L;
+            }
+
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb93fe1a85ec3L;
+            hash ^= hash >>> 33;
+            return hash;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.rockbot.back.provider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.stereotype.Component;
+
+import com.rockbot.back.entity.UserEntity;
+import com.rockbot.back.repository.UserRepository;
+import com.rockbot.back.repository.resultSet.UserListResultSet;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 회원 검색용 메모리 색인. user_id, 이름, 이메일의 모든 접미사를 정렬 맵에 넣어 두고
+ * 검색어로 시작하는 접미사 범위만 훑어 부분 문자열 검색을 한다.
+ * 가입, OAuth 등록, 부서 변경 시 해당 사용자만 다시 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndexProvider {
+
+    @Getter
+    @AllArgsConstructor
+    public static class UserDocument implements UserListResultSet {
+        private String userId;
+        private String name;
+        private String email;
+        private String type;
+        private String role;
+        private int departmentId;
+    }
+
+    // weight : 필드 가중치, isPrefix : 단어의 처음부터 일치, length : 원래 단어 길이
+    private record Posting(String userId, int weight, boolean isPrefix, int length) {
+    }
+
+    private static final int USER_ID_WEIGHT = 30;
+    private static final int NAME_WEIGHT = 20;
+    private static final int EMAIL_WEIGHT = 10;
+
+    // 한 글자 검색어는 거의 모든 색인어와 일치해서 색인 전체를 훑게 되므로 받지 않음
+    public static final int MIN_QUERY_LENGTH = 2;
+    // 점수를 매길 후보 사용자 수 상한 (limit의 배수) : 일치하는 색인어가 많아도 조회 비용이 제한됨
+    private static final int CANDIDATE_FACTOR = 10;
+
+    private final UserRepository userRepository;
+
+    private final Map<String, UserDocument> documents = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<Posting>> postings = new ConcurrentSkipListMap<>();
+
+    @PostConstruct
+    public void init() {
+        try {
+            for (UserListResultSet resultSet : userRepository.findAllByOrderByUserId())
+                put(new UserDocument(resultSet.getUserId(), resultSet.getName(), resultSet.getEmail(),
+                        resultSet.getType(), resultSet.getRole(), resultSet.getDepartmentId()));
+        } catch (Exception exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    public void put(UserEntity userEntity) {
+        put(new UserDocument(userEntity.getUserId(), userEntity.getName(), userEntity.getEmail(),
+                userEntity.getType(), userEntity.getRole(), userEntity.getDepartmentId()));
+    }
+
+    // 부서만 바뀐 경우 색인어는 그대로 두고 문서만 교체
+    public synchronized void updateDepartment(Collection<String> userIds, int departmentId) {
+        for (String userId : userIds)
+            documents.computeIfPresent(userId, (key, document) -> new UserDocument(document.getUserId(),
+                    document.getName(), document.getEmail(), document.getType(), document.getRole(), departmentId));
+    }
+
+    // 부서 단위 이동 : 색인에서 해당 부서의 사용자를 찾아 변경
+    public synchronized void moveDepartment(int fromDepartmentId, int departmentId) {
+        documents.replaceAll((key, document) -> document.getDepartmentId() != fromDepartmentId ? document
+                : new UserDocument(document.getUserId(), document.getName(), document.getEmail(),
+                        document.getType(), document.getRole(), departmentId));
+    }
+
+    public synchronized void put(UserDocument document) {
+
+        UserDocument previous = documents.put(document.getUserId(), document);
+        if (previous != null)
+            removePostings(previous);
+
+        addPostings(document);
+
+    }
+
+    public List<UserDocument> search(String query, Integer departmentId, int limit) {
+
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        if (term.length() < MIN_QUERY_LENGTH)
+            return List.of();
+
+        int maxCandidates = limit * CANDIDATE_FACTOR;
+
+        // 색인어 순서로 훑다가 후보가 상한에 도달하면 중단 (검색어와 정확히 같은 색인어가 가장 먼저 나옴)
+        Map<String, Integer> scores = new HashMap<>();
+        NavigableMap<String, Set<Posting>> matches = postings.subMap(term, true, term + Character.MAX_VALUE, true);
+
+        scan: for (Set<Posting> postingSet : matches.values()) {
+            for (Posting posting : postingSet) {
+                if (!scores.containsKey(posting.userId())) {
+                    if (scores.size() >= maxCandidates)
+                        break scan;
+                    UserDocument document = documents.get(posting.userId());
+                    if (document == null || (departmentId != null && document.getDepartmentId() != departmentId))
+                        continue;
+                }
+                int score = posting.weight();
+                if (posting.isPrefix())
+                    score += 5;
+                if (posting.isPrefix() && posting.length() == term.length())
+                    score += 3;
+                scores.merge(posting.userId(), score, Math::max);
+            }
+        }
+
+        List<UserDocument> results = new ArrayList<>();
+        scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> documents.get(entry.getKey()))
+                .filter(document -> document != null)
+                .limit(limit)
+                .forEach(results::add);
+
+        return results;
+
+    }
+
+    private void addPostings(UserDocument document) {
+        for (Map.Entry<String, Integer> token : getTokens(document).entrySet()) {
+            String text = token.getKey();
+            for (int offset = 0; offset < text.length(); offset++) {
+                Posting posting = new Posting(document.getUserId(), token.getValue(), offset == 0, text.length());
+                postings.computeIfAbsent(text.substring(offset), key -> ConcurrentHashMap.newKeySet()).add(posting);
+            }
+        }
+    }
+
+    private void removePostings(UserDocument document) {
+        for (Map.Entry<String, Integer> token : getTokens(document).entrySet()) {
+            String text = token.getKey();
+            for (int offset = 0; offset < text.length(); offset++) {
+                Posting posting = new Posting(document.getUserId(), token.getValue(), offset == 0, text.length());
+                postings.computeIfPresent(text.substring(offset), (key, postingSet) -> {
+                    postingSet.remove(posting);
+                    return postingSet.isEmpty() ? null : postingSet;
+                });
+            }
+        }
+    }
+
+    // 색인어 → 필드 가중치 (같은 색인어가 여러 필드에 있으면 높은 가중치)
+    private Map<String, Integer> getTokens(UserDocument document) {
+        Map<String, Integer> tokens = new HashMap<>();
+        addToken(tokens, document.getUserId(), USER_ID_WEIGHT);
+        addToken(tokens, document.getName(), NAME_WEIGHT);
+        addToken(tokens, document.getEmail(), EMAIL_WEIGHT);
+        return tokens;
+    }
+
+    private void addToken(Map<String, Integer> tokens, String value, int weight) {
+        if (value == null || value.isBlank())
+            return;
+        tokens.merge(value.trim().toLowerCase(Locale.ROOT), weight, Math::max);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.rockbot.back.provider.implement;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.rockbot.back.entity.CertificationEntity;
+import com.rockbot.back.provider.CertificationStore;
+import com.rockbot.back.repository.CertificationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "certification.store", havingValue = "jdbc")
+public class JdbcCertificationStore implements CertificationStore {
+
+    private final CertificationRepository certificationRepository;
+
+    @Value("${certification.expire-minutes:5}")
+    private long expireMinutes;
+
+    @Value("${certification.max-attempts:5}")
+    private int maxAttempts;
+
+    @Override
+    public void save(String userId, String email, String certificationNumber) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(expireMinutes);
+        CertificationEntity certificationEntity = new CertificationEntity(userId, email, certificationNumber,
+                expiresAt, 0);
+        certificationRepository.save(certificationEntity);
+    }
+
+    @Override
+    public boolean verify(String userId, String email, String certificationNumber) {
+
+        boolean hasAttempts = certificationRepository.increaseAttempts(userId, maxAttempts) == 1;
+        if (!hasAttempts)
+            return false;
+
+        CertificationEntity certificationEntity = certificationRepository.findByUserId(userId);
+        if (certificationEntity == null)
+            return false;
+
+        boolean isExpired = certificationEntity.getExpiresAt() == null
+                || certificationEntity.getExpiresAt().isBefore(LocalDateTime.now());
+        if (isExpired)
+            return false;
+
+        return certificationEntity.getEmail().equals(email)
+                && MessageDigest.isEqual(
+                        certificationEntity.getCertificationNumber().getBytes(StandardCharsets.UTF_8),
+                        certificationNumber.getBytes(StandardCharsets.UTF_8));
+
+    }
+
+    @Override
+    public void delete(String userId) {
+        certificationRepository.deleteByUserId(userId);
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.rockbot.back.provider.implement;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rockbot.back.provider.CertificationStore;
+
+@Component
+@ConditionalOnProperty(name = "certification.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryCertificationStore implements CertificationStore {
+
+    private record Certification(String email, String certificationNumber, AtomicInteger attempts) {
+    }
+
+    private final Cache<String, Certification> certifications;
+    private final int maxAttempts;
+
+    public MemoryCertificationStore(
+            @Value("${certification.expire-minutes:5}") long expireMinutes,
+            @Value("${certification.max-attempts:5}") int maxAttempts) {
+
+        this.certifications = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void save(String userId, String email, String certificationNumber) {
+        certifications.put(userId, new Certification(email, certificationNumber, new AtomicInteger()));
+    }
+
+    @Override
+    public boolean verify(String userId, String email, String certificationNumber) {
+
+        Certification certification = certifications.getIfPresent(userId);
+        if (certification == null)
+            return false;
+
+        if (certification.attempts().incrementAndGet() > maxAttempts) {
+            certifications.asMap().remove(userId, certification);
+            return false;
+        }
+
+        return certification.email().equals(email)
+                && MessageDigest.isEqual(
+                        certification.certificationNumber().getBytes(StandardCharsets.UTF_8),
+                        certificationNumber.getBytes(StandardCharsets.UTF_8));
+
+    }
+
+    @Override
+    public void delete(String userId) {
+        certifications.invalidate(userId);
+    }
+
+}
@@ -1,6 +1,9 @@
 package com.rockbot.back.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.rockbot.back.entity.CertificationEntity;
@@ -17,5 +20,11 @@ public interface CertificationRepository extends JpaRepository<CertificationEnti
     @Transactional
     void deleteByUserId(String userId);
 
+    // 시도 횟수가 남아 있을 때만 1 증가
+    @Transactional
+    @Modifying
+    @Query("UPDATE certification c SET c.attempts = c.attempts + 1 WHERE c.userId = :userId AND c.attempts < :maxAttempts")
+    int increaseAttempts(@Param("userId") String userId, @Param("maxAttempts") int maxAttempts);
+
 
 }
@@ -0,0 +1,15 @@
+package com.rockbot.back.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.rockbot.back.entity.DepartmentEntity;
+
+@Repository
+public interface DepartmentRepository extends JpaRepository<DepartmentEntity, Integer> {
+
+    List<DepartmentEntity> findAllByOrderById();
+
+}
@@ -0,0 +1,53 @@
+package com.rockbot.back.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rockbot.back.entity.MailOutboxEntity;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, Long> {
+
+    // 발송 대기 중이거나, 발송 중 점유 시간이 지난(서버 중단 등) 메일
+    @Query("SELECT m.id FROM mail_outbox m WHERE m.status IN ('Pending', 'Sending') AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 다른 워커(서버)가 먼저 가져간 메일이면 0 반환
+    @Transactional
+    @Modifying
+    @Query("UPDATE mail_outbox m SET m.status = 'Sending', m.nextAttemptAt = :leaseUntil, m.updatedAt = :now "
+            + "WHERE m.id = :id AND m.status IN ('Pending', 'Sending') AND m.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 발송 직전 점유 시간 연장 (워커 큐에서 기다리는 동안 점유가 끝나지 않도록)
+    @Transactional
+    @Modifying
+    @Query("UPDATE mail_outbox m SET m.nextAttemptAt = :leaseUntil, m.updatedAt = :now "
+            + "WHERE m.id IN :ids AND m.status = 'Sending'")
+    int renewLease(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE mail_outbox m SET m.status = :status, m.attempts = :attempts, m.nextAttemptAt = :nextAttemptAt, "
+            + "m.lastError = :lastError, m.updatedAt = :now WHERE m.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") String status, @Param("attempts") int attempts,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError,
+            @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 발송 완료/실패 메일 삭제 (Sent, Dead는 처리 시각이 next_attempt_at에 기록되어 기존 인덱스 사용)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM mail_outbox m WHERE m.status IN ('Sent', 'Dead') AND m.nextAttemptAt < :before")
+    int deleteFinished(@Param("before") LocalDateTime before);
+
+}
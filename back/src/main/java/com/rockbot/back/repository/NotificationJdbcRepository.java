@@ -0,0 +1,65 @@
+package com.rockbot.back.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.rockbot.back.entity.NotificationEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 대량 저장.
+ * notification_id가 IDENTITY 전략이라 Hibernate는 INSERT를 배치로 묶지 않으므로 JDBC 배치로 직접 저장한다.
+ * 호출한 쪽의 트랜잭션에 참여하며, 생성된 ID는 엔티티에 채워 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notification (user_id, message, status, notification_date) "
+            + "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<NotificationEntity> notifications) {
+
+        if (notifications.isEmpty())
+            return;
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int index) throws SQLException {
+                        NotificationEntity notification = notifications.get(index);
+                        statement.setString(1, notification.getUserId());
+                        statement.setString(2, notification.getMessage());
+                        statement.setString(3, notification.getStatus());
+                        statement.setTimestamp(4, notification.getNotificationDate());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        for (int index = 0; index < keyList.size() && index < notifications.size(); index++) {
+            Number key = (Number) keyList.get(index).values().iterator().next();
+            notifications.get(index).setNotification_id(key.intValue());
+        }
+
+    }
+
+}
@@ -2,7 +2,13 @@ package com.rockbot.back.repository;
 
 import com.rockbot.back.entity.NotificationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import jakarta.transaction.Transactional;
+
 import java.util.List;
 
 @Repository
@@ -11,4 +17,21 @@ public interface NotificationRepository extends JpaRepository<NotificationEntity
 
     // 사용자 ID와 상태를 기준으로 알림 조회
     List<NotificationEntity> findByUserIdAndStatus(String userId, String status);
-}
\ No newline at end of file
+
+    long countByUserIdAndStatus(String userId, String status);
+
+    // 지정한 알림 일괄 읽음 처리 : 다른 사용자의 알림 ID가 섞여 있어도 변경되지 않음
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationEntity n SET n.status = 'Read' "
+            + "WHERE n.userId = :userId AND n.status = 'Unread' AND n.notification_id IN :notificationIds")
+    int readNotifications(@Param("userId") String userId, @Param("notificationIds") List<Integer> notificationIds);
+
+    // 기준 ID 이하의 미확인 알림 일괄 읽음 처리 (ID는 저장 순서대로 증가)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE NotificationEntity n SET n.status = 'Read' "
+            + "WHERE n.userId = :userId AND n.status = 'Unread' AND n.notification_id <= :beforeNotificationId")
+    int readNotificationsBefore(@Param("userId") String userId,
+            @Param("beforeNotificationId") Integer beforeNotificationId);
+}
@@ -0,0 +1,38 @@
+package com.rockbot.back.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.rockbot.back.entity.RefreshTokenEntity;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, String> {
+
+    // 토큰 해시(PK)와 사용자 정보를 한 번의 조회로 가져옴
+    @Query("SELECT r FROM refresh_token r JOIN FETCH r.user WHERE r.tokenHash = :tokenHash")
+    RefreshTokenEntity findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 아직 사용되지 않은 경우에만 사용 처리 (동시 재사용 시 한 요청만 성공)
+    @Transactional
+    @Modifying
+    @Query("UPDATE refresh_token r SET r.used = true WHERE r.tokenHash = :tokenHash AND r.used = false")
+    int markUsed(@Param("tokenHash") String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM refresh_token r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM refresh_token r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+}
@@ -0,0 +1,87 @@
+package com.rockbot.back.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.rockbot.back.entity.TravelEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 출장 요청 대량 저장.
+ * request_id가 IDENTITY 전략이라 Hibernate는 INSERT를 배치로 묶지 않으므로 JDBC 배치로 직접 저장한다.
+ * change_seq는 DB 트리거가 채운다.
+ * 호출한 쪽의 트랜잭션에 참여하며, 생성된 ID는 엔티티에 채워 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TravelRequestJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO travel_request (user_id, department_id, destination, "
+            + "travel_date, return_date, reason, status, submission_date, name, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void saveAll(List<TravelEntity> travelEntities) {
+
+        if (travelEntities.isEmpty())
+            return;
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int index) throws SQLException {
+                        TravelEntity travelEntity = travelEntities.get(index);
+                        statement.setString(1, travelEntity.getUserId());
+                        statement.setInt(2, travelEntity.getDepartmentId());
+                        statement.setString(3, travelEntity.getDestination());
+                        setDate(statement, 4, travelEntity.getTravelDate() == null ? null
+                                : Date.valueOf(travelEntity.getTravelDate()));
+                        setDate(statement, 5, travelEntity.getReturnDate() == null ? null
+                                : Date.valueOf(travelEntity.getReturnDate()));
+                        statement.setString(6, travelEntity.getReason());
+                        statement.setString(7, travelEntity.getStatus());
+                        statement.setTimestamp(8, travelEntity.getSubmissionDate() == null ? null
+                                : Timestamp.valueOf(travelEntity.getSubmissionDate()));
+                        statement.setString(9, travelEntity.getName());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return travelEntities.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        for (int index = 0; index < keyList.size() && index < travelEntities.size(); index++) {
+            Number key = (Number) keyList.get(index).values().iterator().next();
+            TravelEntity travelEntity = travelEntities.get(index);
+            travelEntity.setRequestId(key.longValue());
+            travelEntity.setVersion(0L);
+        }
+
+    }
+
+    private void setDate(PreparedStatement statement, int index, Date date) throws SQLException {
+        if (date == null)
+            statement.setNull(index, Types.DATE);
+        else
+            statement.setDate(index, date);
+    }
+
+}
@@ -1,13 +1,125 @@
 package com.rockbot.back.repository;
 
 import com.rockbot.back.entity.TravelEntity;
+import com.rockbot.back.repository.resultSet.TravelRequestChangeResultSet;
+import com.rockbot.back.repository.resultSet.TravelRequestListResultSet;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import jakarta.transaction.Transactional;
+
 @Repository
 public interface TravelRequestRepository extends JpaRepository<TravelEntity, Long> {
     List<TravelEntity> findByUserId(String userId);
+
+    // 아직 끝나지 않은 출장 (복귀일이 없으면 출장일 기준)
+    @Query("SELECT t FROM TravelEntity t WHERE t.status IN :statuses "
+            + "AND COALESCE(t.returnDate, t.travelDate) >= :date")
+    List<TravelEntity> findNotEndedList(@Param("statuses") List<String> statuses, @Param("date") LocalDate date);
+
+    // [fromDate, toDate] 기간과 겹치는 부서 일정 (메모리 색인에 없는 지난 기간 조회용)
+    @Query("SELECT t FROM TravelEntity t WHERE t.departmentId = :departmentId AND t.status IN :statuses "
+            + "AND t.travelDate <= :toDate AND COALESCE(t.returnDate, t.travelDate) >= :fromDate "
+            + "ORDER BY t.travelDate, t.requestId")
+    List<TravelEntity> findOverlapListByDepartment(@Param("departmentId") int departmentId,
+            @Param("statuses") List<String> statuses, @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    // [fromDate, toDate] 기간과 겹치는 사용자 일정 (메모리 색인에 없는 지난 기간 조회용)
+    @Query("SELECT t FROM TravelEntity t WHERE t.userId = :userId AND t.status IN :statuses "
+            + "AND t.travelDate <= :toDate AND COALESCE(t.returnDate, t.travelDate) >= :fromDate "
+            + "ORDER BY t.travelDate, t.requestId")
+    List<TravelEntity> findOverlapListByUser(@Param("userId") String userId,
+            @Param("statuses") List<String> statuses, @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate);
+
+    // (submission_date, request_id) 역순 keyset 페이지네이션 (필터는 모두 선택)
+    @Query("SELECT t.requestId AS requestId, t.userId AS userId, t.name AS name, t.departmentId AS departmentId, "
+            + "t.destination AS destination, t.travelDate AS travelDate, t.returnDate AS returnDate, "
+            + "t.reason AS reason, t.status AS status, t.submissionDate AS submissionDate, t.version AS version "
+            + "FROM TravelEntity t "
+            + "WHERE (:cursorDate IS NULL OR t.submissionDate < :cursorDate "
+            + "OR (t.submissionDate = :cursorDate AND t.requestId < :cursorId)) "
+            + "AND (:status IS NULL OR t.status = :status) "
+            + "AND (:departmentId IS NULL OR t.departmentId = :departmentId) "
+            + "AND (:userId IS NULL OR t.userId = :userId) "
+            + "AND (:fromDate IS NULL OR t.submissionDate >= :fromDate) "
+            + "AND (:toDate IS NULL OR t.submissionDate < :toDate) "
+            + "ORDER BY t.submissionDate DESC, t.requestId DESC")
+    List<TravelRequestListResultSet> findTravelRequestList(
+            @Param("cursorDate") LocalDateTime cursorDate, @Param("cursorId") Long cursorId,
+            @Param("status") String status, @Param("departmentId") Integer departmentId,
+            @Param("userId") String userId, @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate, Pageable pageable);
+
+    // 일괄 상태 변경 대상 행을 트랜잭션 종료까지 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM TravelEntity t WHERE t.requestId IN :requestIds")
+    List<TravelEntity> findAllForUpdate(@Param("requestIds") List<Long> requestIds);
+
+    // 허용된 이전 상태에서만 변경 (상태 전이 규칙은 TravelStatus 참고)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TravelEntity t SET t.status = :status, t.version = t.version + 1 "
+            + "WHERE t.requestId IN :requestIds AND t.status IN :previousStatuses")
+    int updateStatus(@Param("requestIds") List<Long> requestIds, @Param("status") String status,
+            @Param("previousStatuses") List<String> previousStatuses);
+
+    // 단건 상태 변경 : 조회 없이 한 번의 조건부 UPDATE로 처리, version을 지정하면 낙관적 잠금
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TravelEntity t SET t.status = :status, t.version = t.version + 1 "
+            + "WHERE t.requestId = :requestId AND t.status = :previousStatus "
+            + "AND (:version IS NULL OR t.version = :version)")
+    int updateStatus(@Param("requestId") Long requestId, @Param("status") String status,
+            @Param("previousStatus") String previousStatus, @Param("version") Long version);
+
+    // 변경 순번은 travel_request 트리거가 발급하고 순번 행의 잠금은 커밋까지 유지됨
+    // 여러 행을 바꾸는 트랜잭션은 행 잠금보다 먼저 순번 행을 잠가서 잠금 순서를 맞춤 (트랜잭션 안에서 호출)
+    @Query(value = "SELECT value FROM travel_request_sequence WHERE name = 'change' FOR UPDATE", nativeQuery = true)
+    long lockChangeSeq();
+
+    // 현재까지 발급된 마지막 변경 순번 (목록 조회 이후 변경 피드를 이어서 받을 시작점)
+    @Query(value = "SELECT value FROM travel_request_sequence WHERE name = 'change'", nativeQuery = true)
+    long getChangeSeq();
+
+    // (change_seq, request_id) 이후에 변경된 출장 요청
+    @Query("SELECT t.requestId AS requestId, t.userId AS userId, t.name AS name, t.departmentId AS departmentId, "
+            + "t.destination AS destination, t.travelDate AS travelDate, t.returnDate AS returnDate, "
+            + "t.reason AS reason, t.status AS status, t.submissionDate AS submissionDate, t.version AS version, "
+            + "t.changeSeq AS changeSeq FROM TravelEntity t "
+            + "WHERE t.changeSeq > :changeSeq OR (t.changeSeq = :changeSeq AND t.requestId > :requestId) "
+            + "ORDER BY t.changeSeq, t.requestId")
+    List<TravelRequestChangeResultSet> findChangeList(@Param("changeSeq") long changeSeq,
+            @Param("requestId") long requestId, Pageable pageable);
+
+    // 내보내기용 스트리밍 조회 : MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 행 단위로 읽어옴
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TravelEntity t "
+            + "WHERE (:status IS NULL OR t.status = :status) "
+            + "AND (:departmentId IS NULL OR t.departmentId = :departmentId) "
+            + "AND (:fromDate IS NULL OR t.submissionDate >= :fromDate) "
+            + "AND (:toDate IS NULL OR t.submissionDate < :toDate) "
+            + "ORDER BY t.requestId")
+    Stream<TravelEntity> streamTravelRequests(@Param("status") String status,
+            @Param("departmentId") Integer departmentId, @Param("fromDate") LocalDateTime fromDate,
+            @Param("toDate") LocalDateTime toDate);
 }
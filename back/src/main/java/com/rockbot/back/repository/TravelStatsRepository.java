@@ -0,0 +1,32 @@
+package com.rockbot.back.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.rockbot.back.entity.TravelStatsEntity;
+import com.rockbot.back.entity.primaryKey.TravelStatsPk;
+
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface TravelStatsRepository extends JpaRepository<TravelStatsEntity, TravelStatsPk> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM travel_request_stats", nativeQuery = true)
+    int deleteAllRows();
+
+    // 출장 요청 원본에서 집계를 다시 계산 (제출일이 없으면 출장일 기준 월)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO travel_request_stats (department_id, month, status, request_count) "
+            + "SELECT department_id, DATE_FORMAT(COALESCE(submission_date, travel_date), '%Y-%m'), status, COUNT(*) "
+            + "FROM travel_request "
+            + "WHERE department_id IS NOT NULL AND status IS NOT NULL AND COALESCE(submission_date, travel_date) IS NOT NULL "
+            + "GROUP BY department_id, DATE_FORMAT(COALESCE(submission_date, travel_date), '%Y-%m'), status",
+            nativeQuery = true)
+    int rebuild();
+
+}
@@ -1,9 +1,18 @@
 package com.rockbot.back.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.rockbot.back.entity.UserEntity;
+import com.rockbot.back.repository.resultSet.UserListResultSet;
+
+import jakarta.transaction.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, String> {
@@ -11,4 +20,47 @@ public interface UserRepository extends JpaRepository<UserEntity, String> {
     boolean existsByUserId(String userId);
 
     UserEntity findByUserId(String userId);
+
+    // 신규 가입 전용 INSERT : save()는 ID가 지정된 엔티티를 merge하므로 기존 계정을 덮어쓸 수 있음
+    // (같은 ID가 이미 있으면 PK 중복으로 실패)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO `user` (user_id, password, name, email, type, role, department_id) "
+            + "VALUES (:#{#user.userId}, :#{#user.password}, :#{#user.name}, :#{#user.email}, "
+            + ":#{#user.type}, :#{#user.role}, :#{#user.departmentId})", nativeQuery = true)
+    int insert(@Param("user") UserEntity user);
+
+    List<UserListResultSet> findAllByOrderByUserId();
+
+    @Query("SELECT u.userId FROM user u")
+    List<String> findAllUserIds();
+
+    // 여러 사용자의 부서를 한 번의 UPDATE로 변경
+    @Transactional
+    @Modifying
+    @Query("UPDATE user u SET u.departmentId = :departmentId WHERE u.userId IN :userIds")
+    int updateDepartmentId(@Param("userIds") List<String> userIds, @Param("departmentId") int departmentId);
+
+    // 부서 단위 이동 : 대상 ID를 조회하지 않고 조건으로 한 번에 변경
+    @Transactional
+    @Modifying
+    @Query("UPDATE user u SET u.departmentId = :departmentId WHERE u.departmentId = :fromDepartmentId")
+    int updateDepartmentIdByDepartmentId(@Param("fromDepartmentId") int fromDepartmentId,
+            @Param("departmentId") int departmentId);
+
+    // user_id 기준 keyset 페이지네이션 (부서, role 필터는 선택)
+    @Query("SELECT u.userId AS userId, u.name AS name, u.email AS email, u.type AS type, u.role AS role, "
+            + "u.departmentId AS departmentId FROM user u "
+            + "WHERE (:cursor IS NULL OR u.userId > :cursor) "
+            + "AND (:departmentId IS NULL OR u.departmentId = :departmentId) "
+            + "AND (:role IS NULL OR u.role = :role) "
+            + "ORDER BY u.userId")
+    List<UserListResultSet> findUserList(@Param("cursor") String cursor, @Param("departmentId") Integer departmentId,
+            @Param("role") String role, Pageable pageable);
+
+    // OAuth 프로필 갱신 : role, department_id 등 관리자가 지정한 값은 건드리지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE user u SET u.name = :name, u.email = :email WHERE u.userId = :userId")
+    int updateProfile(@Param("userId") String userId, @Param("name") String name, @Param("email") String email);
 }
@@ -0,0 +1,6 @@
+package com.rockbot.back.repository.resultSet;
+
+// 변경 피드 조회 결과
+public interface TravelRequestChangeResultSet extends TravelRequestListResultSet {
+    long getChangeSeq();
+}
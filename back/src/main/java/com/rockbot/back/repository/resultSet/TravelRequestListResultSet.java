@@ -0,0 +1,19 @@
+package com.rockbot.back.repository.resultSet;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 출장 요청 목록 조회 결과
+public interface TravelRequestListResultSet {
+    Long getRequestId();
+    String getUserId();
+    String getName();
+    int getDepartmentId();
+    String getDestination();
+    LocalDate getTravelDate();
+    LocalDate getReturnDate();
+    String getReason();
+    String getStatus();
+    LocalDateTime getSubmissionDate();
+    Long getVersion();
+}
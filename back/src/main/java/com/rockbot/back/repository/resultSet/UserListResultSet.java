@@ -0,0 +1,11 @@
+package com.rockbot.back.repository.resultSet;
+
+// 비밀번호 컬럼을 제외한 사용자 목록 조회 결과
+public interface UserListResultSet {
+    String getUserId();
+    String getName();
+    String getEmail();
+    String getType();
+    String getRole();
+    int getDepartmentId();
+}
@@ -10,7 +10,9 @@ import com.rockbot.back.dto.request.auth.SignUpRequestDto;
 import com.rockbot.back.dto.response.auth.CheckCertificationResponseDto;
 import com.rockbot.back.dto.response.auth.EmailCertificationResponseDto;
 import com.rockbot.back.dto.response.auth.IdCheckResponseDto;
+import com.rockbot.back.dto.response.auth.RefreshResponseDto;
 import com.rockbot.back.dto.response.auth.SignInResponseDto;
+import com.rockbot.back.dto.response.auth.SignOutResponseDto;
 import com.rockbot.back.dto.response.auth.SignUpResponseDto;
 
 public interface AuthService {
@@ -20,5 +22,7 @@ public interface AuthService {
     ResponseEntity<? super CheckCertificationResponseDto> checkCertification(CheckCertificationRequestDto dto);
     ResponseEntity<? super SignUpResponseDto> signUp (SignUpRequestDto dto);
     ResponseEntity<? super SignInResponseDto> signIn (SignInRequestDto dto);
+    ResponseEntity<? super RefreshResponseDto> refresh (String refreshToken);
+    ResponseEntity<? super SignOutResponseDto> signOut (String refreshToken);
 
 } 
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.rockbot.back.service;
+
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.response.department.GetDepartmentListResponseDto;
+
+public interface DepartmentService {
+
+    ResponseEntity<? super GetDepartmentListResponseDto> getDepartmentList(String ifNoneMatch);
+
+}
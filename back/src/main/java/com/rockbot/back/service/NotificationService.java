@@ -0,0 +1,19 @@
+package com.rockbot.back.service;
+
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.request.notification.ReadNotificationListRequestDto;
+import com.rockbot.back.dto.response.notification.PostNotificationStreamTokenResponseDto;
+import com.rockbot.back.dto.response.notification.ReadNotificationListResponseDto;
+
+public interface NotificationService {
+
+    ResponseEntity<? super PostNotificationStreamTokenResponseDto> postNotificationStreamToken(String userId,
+            String principal);
+
+    ResponseEntity<?> subscribeNotification(String userId, String token);
+
+    ResponseEntity<? super ReadNotificationListResponseDto> readNotificationList(String userId,
+            ReadNotificationListRequestDto dto, String principal);
+
+}
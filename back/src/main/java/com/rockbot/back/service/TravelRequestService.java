@@ -0,0 +1,40 @@
+package com.rockbot.back.service;
+
+import java.time.LocalDate;
+
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.request.travel.ChangeTravelRequestStatusRequestDto;
+import com.rockbot.back.dto.request.travel.PostTravelRequestListRequestDto;
+import com.rockbot.back.dto.request.travel.PostTravelRequestRequestDto;
+import com.rockbot.back.dto.request.travel.UpdateTravelRequestStatusRequestDto;
+import com.rockbot.back.dto.response.travel.ChangeTravelRequestStatusResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelOverlapResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelRequestChangeListResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelRequestListResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelScheduleListResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelStatsResponseDto;
+import com.rockbot.back.dto.response.travel.PostTravelRequestListResponseDto;
+import com.rockbot.back.dto.response.travel.PostTravelRequestResponseDto;
+import com.rockbot.back.dto.response.travel.UpdateTravelRequestStatusResponseDto;
+
+public interface TravelRequestService {
+
+    ResponseEntity<? super PostTravelRequestResponseDto> postTravelRequest(PostTravelRequestRequestDto dto, String userId);
+    ResponseEntity<? super PostTravelRequestListResponseDto> postTravelRequestList(PostTravelRequestListRequestDto dto);
+    ResponseEntity<? super GetTravelRequestListResponseDto> getTravelRequestList(String cursor, int size,
+            String status, Integer departmentId, String userId, LocalDate fromDate, LocalDate toDate);
+    ResponseEntity<? super GetTravelRequestChangeListResponseDto> getTravelRequestChangeList(String since, int size);
+    ResponseEntity<?> exportTravelRequests(String format, boolean gzip, String status, Integer departmentId,
+            LocalDate fromDate, LocalDate toDate);
+    ResponseEntity<? super GetTravelScheduleListResponseDto> getTravelScheduleList(int departmentId,
+            LocalDate fromDate, LocalDate toDate, boolean includePending);
+    ResponseEntity<? super GetTravelOverlapResponseDto> getTravelOverlap(String userId, int departmentId,
+            LocalDate fromDate, LocalDate toDate);
+    ResponseEntity<? super GetTravelStatsResponseDto> getTravelStats(String month, Integer departmentId);
+    ResponseEntity<? super ChangeTravelRequestStatusResponseDto> changeTravelRequestStatus(Long requestId,
+            ChangeTravelRequestStatusRequestDto dto);
+    ResponseEntity<? super UpdateTravelRequestStatusResponseDto> updateTravelRequestStatus(
+            UpdateTravelRequestStatusRequestDto dto);
+
+}
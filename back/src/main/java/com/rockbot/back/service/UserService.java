@@ -0,0 +1,15 @@
+package com.rockbot.back.service;
+
+import org.springframework.http.ResponseEntity;
+
+import com.rockbot.back.dto.request.user.UpdateUserDepartmentRequestDto;
+import com.rockbot.back.dto.response.user.GetUserListResponseDto;
+import com.rockbot.back.dto.response.user.UpdateUserDepartmentResponseDto;
+
+public interface UserService {
+
+    ResponseEntity<? super GetUserListResponseDto> getUserList(String cursor, int size, Integer departmentId, String role);
+    ResponseEntity<? super GetUserListResponseDto> searchUserList(String query, int limit, Integer departmentId);
+    ResponseEntity<? super UpdateUserDepartmentResponseDto> updateUserDepartment(UpdateUserDepartmentRequestDto dto);
+
+}
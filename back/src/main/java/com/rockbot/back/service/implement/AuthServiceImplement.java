@@ -1,11 +1,14 @@
 package com.rockbot.back.service.implement;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.rockbot.back.common.CertificationNumber;
 import com.rockbot.back.dto.request.auth.CheckCertificationRequestDto;
@@ -17,13 +20,20 @@ import com.rockbot.back.dto.response.ResponseDto;
 import com.rockbot.back.dto.response.auth.CheckCertificationResponseDto;
 import com.rockbot.back.dto.response.auth.EmailCertificationResponseDto;
 import com.rockbot.back.dto.response.auth.IdCheckResponseDto;
+import com.rockbot.back.dto.response.auth.RefreshResponseDto;
 import com.rockbot.back.dto.response.auth.SignInResponseDto;
+import com.rockbot.back.dto.response.auth.SignOutResponseDto;
 import com.rockbot.back.dto.response.auth.SignUpResponseDto;
-import com.rockbot.back.entity.CertificationEntity;
+import com.rockbot.back.entity.RefreshTokenEntity;
 import com.rockbot.back.entity.UserEntity;
+import com.rockbot.back.provider.CertificationStore;
 import com.rockbot.back.provider.EmailProvider;
 import com.rockbot.back.provider.JwtProvider;
-import com.rockbot.back.repository.CertificationRepository;
+import com.rockbot.back.provider.PasswordHashProvider;
+import com.rockbot.back.provider.RefreshTokenProvider;
+import com.rockbot.back.provider.UserIdFilterProvider;
+import com.rockbot.back.provider.UserSearchIndexProvider;
+import com.rockbot.back.repository.RefreshTokenRepository;
 import com.rockbot.back.repository.UserRepository;
 import com.rockbot.back.service.AuthService;
 
@@ -34,11 +44,18 @@ import lombok.RequiredArgsConstructor;
 public class AuthServiceImplement implements AuthService {
 
     private final UserRepository userRepository;
-    private final CertificationRepository certificationRepository;
+    private final CertificationStore certificationStore;
+    private final RefreshTokenRepository refreshTokenRepository;
 
     private final EmailProvider emailProvider;
     private final JwtProvider jwtProvider;
-    private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordHashProvider passwordHashProvider;
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final UserSearchIndexProvider userSearchIndexProvider;
+    private final UserIdFilterProvider userIdFilterProvider;
+
+    @Value("${password-hash.retry-after-seconds:1}")
+    private long retryAfterSeconds;
 
     @Override
     public ResponseEntity<? super IdCheckResponseDto> idCheck(IdCheckRequestDto dto) {
@@ -46,7 +63,7 @@ public class AuthServiceImplement implements AuthService {
         try {
 
             String userId = dto.getId();
-            boolean isExistId = userRepository.existsById(userId);
+            boolean isExistId = userIdFilterProvider.exists(userId);
             if (isExistId)
                 return IdCheckResponseDto.duplicateId();
 
@@ -67,6 +84,7 @@ public class AuthServiceImplement implements AuthService {
             String userId = dto.getId();
             String email = dto.getEmail();
 
+            // 필터는 서버마다 따로 유지되어 다른 서버에서 가입한 아이디를 모를 수 있으므로 DB로 확인
             boolean isExistId = userRepository.existsByUserId(userId);
             if (isExistId)
                 return EmailCertificationResponseDto.duplicateID();
@@ -77,8 +95,7 @@ public class AuthServiceImplement implements AuthService {
             if (!isSuccessed)
                 return EmailCertificationResponseDto.mailSendFail();
 
-            CertificationEntity certificationEntity = new CertificationEntity(userId, email, certificationNumber);
-            certificationRepository.save(certificationEntity);
+            certificationStore.save(userId, email, certificationNumber);
 
         } catch (Exception exception) {
             exception.printStackTrace();
@@ -97,12 +114,7 @@ public class AuthServiceImplement implements AuthService {
             String email = dto.getEmail();
             String certificationNumber = dto.getCertificationNumber();
 
-            CertificationEntity certificationEntity = certificationRepository.findByUserId(userId);
-            if (certificationEntity == null)
-                return CheckCertificationResponseDto.certificationFail();
-
-            boolean isMatched = certificationEntity.getEmail().equals(email)
-                    && certificationEntity.getCertificationNumber().equals(certificationNumber);
+            boolean isMatched = certificationStore.verify(userId, email, certificationNumber);
             if (!isMatched)
                 return CheckCertificationResponseDto.certificationFail();
 
@@ -128,21 +140,26 @@ public class AuthServiceImplement implements AuthService {
 
             String email = dto.getEmail();
             String certificationNumber = dto.getCertificationNumber();
-            CertificationEntity certificationEntity = certificationRepository.findByUserId(userId);
-            boolean isMatched = certificationEntity.getEmail().equals(email) &&
-                    certificationEntity.getCertificationNumber().equals(certificationNumber);
+            boolean isMatched = certificationStore.verify(userId, email, certificationNumber);
             if (!isMatched)
                 return SignUpResponseDto.certificationFail();
 
             String password = dto.getPassword();
-            String encodedPassword = passwordEncoder.encode(password);
+            String encodedPassword = passwordHashProvider.encode(password);
             dto.setPassword(encodedPassword);
 
+            // 확인 이후 동시에 가입된 경우에도 기존 계정을 덮어쓰지 않도록 INSERT만 수행
             UserEntity userEntity = new UserEntity(dto);
-            userRepository.save(userEntity);
+            userRepository.insert(userEntity);
+            userSearchIndexProvider.put(userEntity);
+            userIdFilterProvider.put(userId);
 
-            certificationRepository.deleteByUserId(userId);
+            certificationStore.delete(userId);
 
+        } catch (DataIntegrityViolationException exception) {
+            return SignUpResponseDto.duplicateId();
+        } catch (RejectedExecutionException exception) {
+            return ResponseDto.serverBusy(retryAfterSeconds);
         } catch (Exception exception) {
             exception.printStackTrace();
             return ResponseDto.databaseError();
@@ -154,9 +171,11 @@ public class AuthServiceImplement implements AuthService {
 
     public ResponseEntity<? super SignInResponseDto> signIn(SignInRequestDto dto) {
         String token = null;
+        String refreshToken = null;
         String userId = null;
         String name = null;
         int departmentId = 1;
+        String role = null;
 
         try {
             userId = dto.getId();
@@ -166,21 +185,87 @@ public class AuthServiceImplement implements AuthService {
 
             String password = dto.getPassword();
             String encodedPassword = userEntity.getPassword();
-            boolean isMatched = passwordEncoder.matches(password, encodedPassword);
+            boolean isMatched = passwordHashProvider.matches(password, encodedPassword);
             if (!isMatched) {
                 return SignInResponseDto.signInFail();
             }
 
             name = userEntity.getName();
             departmentId = userEntity.getDepartmentId();
+            role = userEntity.getRole();
 
-            // 토큰 생성 시 userId와 name을 포함
-            token = jwtProvider.create(userId, name, departmentId);
+            // 토큰 생성 시 userId, name, role을 포함
+            token = jwtProvider.create(userId, name, departmentId, role);
+            refreshToken = refreshTokenProvider.create(userId);
 
+        } catch (RejectedExecutionException exception) {
+            return ResponseDto.serverBusy(retryAfterSeconds);
         } catch (Exception exception) {
             exception.printStackTrace();
             return ResponseDto.databaseError();
         }
-        return SignInResponseDto.success(token, userId, name, departmentId);
+        return SignInResponseDto.success(token, refreshTokenProvider.createCookie(refreshToken),
+                refreshTokenProvider.getExpirationTime(),
+                userId, name, departmentId);
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<? super RefreshResponseDto> refresh(String refreshToken) {
+        String token = null;
+        String nextRefreshToken = null;
+
+        if (refreshToken == null || refreshToken.isBlank())
+            return RefreshResponseDto.refreshFail(refreshTokenProvider.expireCookie());
+
+        try {
+            String tokenHash = refreshTokenProvider.hash(refreshToken);
+            RefreshTokenEntity refreshTokenEntity = refreshTokenRepository.findWithUserByTokenHash(tokenHash);
+            if (refreshTokenEntity == null)
+                return RefreshResponseDto.refreshFail(refreshTokenProvider.expireCookie());
+
+            boolean isExpired = refreshTokenEntity.getExpiresAt().isBefore(LocalDateTime.now());
+            if (isExpired)
+                return RefreshResponseDto.refreshFail(refreshTokenProvider.expireCookie());
+
+            boolean isRotated = !refreshTokenEntity.isUsed() && refreshTokenRepository.markUsed(tokenHash) == 1;
+            if (!isRotated) {
+                // 이미 교체된 토큰이 다시 사용됨 : 탈취로 보고 같은 계열의 토큰을 모두 폐기
+                refreshTokenRepository.deleteByFamilyId(refreshTokenEntity.getFamilyId());
+                return RefreshResponseDto.refreshFail(refreshTokenProvider.expireCookie());
+            }
+
+            UserEntity userEntity = refreshTokenEntity.getUser();
+            token = jwtProvider.create(userEntity.getUserId(), userEntity.getName(),
+                    userEntity.getDepartmentId(), userEntity.getRole());
+            nextRefreshToken = refreshTokenProvider.create(userEntity.getUserId(),
+                    refreshTokenEntity.getFamilyId());
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+        return RefreshResponseDto.success(token, refreshTokenProvider.createCookie(nextRefreshToken),
+                refreshTokenProvider.getExpirationTime());
+    }
+
+    // 로그아웃 : 쿠키의 토큰 계열을 폐기해서 다른 탭/기기에서도 더 이상 교체되지 않도록 함
+    @Override
+    public ResponseEntity<? super SignOutResponseDto> signOut(String refreshToken) {
+
+        try {
+            if (refreshToken != null && !refreshToken.isBlank()) {
+                String tokenHash = refreshTokenProvider.hash(refreshToken);
+                RefreshTokenEntity refreshTokenEntity = refreshTokenRepository.findWithUserByTokenHash(tokenHash);
+                if (refreshTokenEntity != null)
+                    refreshTokenRepository.deleteByFamilyId(refreshTokenEntity.getFamilyId());
+            }
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        return SignOutResponseDto.success(refreshTokenProvider.expireCookie());
+
     }
 }
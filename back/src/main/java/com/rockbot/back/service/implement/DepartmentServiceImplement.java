@@ -0,0 +1,32 @@
+package com.rockbot.back.service.implement;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.rockbot.back.dto.response.department.GetDepartmentListResponseDto;
+import com.rockbot.back.provider.DepartmentCatalogProvider;
+import com.rockbot.back.provider.DepartmentCatalogProvider.DepartmentCatalog;
+import com.rockbot.back.service.DepartmentService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class DepartmentServiceImplement implements DepartmentService {
+
+    private final DepartmentCatalogProvider departmentCatalogProvider;
+
+    @Override
+    public ResponseEntity<? super GetDepartmentListResponseDto> getDepartmentList(String ifNoneMatch) {
+
+        DepartmentCatalog catalog = departmentCatalogProvider.getCatalog();
+
+        boolean isNotModified = catalog.etag().equals(ifNoneMatch);
+        if (isNotModified)
+            return GetDepartmentListResponseDto.notModified(catalog.etag());
+
+        return GetDepartmentListResponseDto.success(catalog.departmentList(), catalog.etag());
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.rockbot.back.service.implement;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.rockbot.back.dto.request.notification.ReadNotificationListRequestDto;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.dto.response.notification.PostNotificationStreamTokenResponseDto;
+import com.rockbot.back.dto.response.notification.ReadNotificationListResponseDto;
+import com.rockbot.back.provider.JwtProvider;
+import com.rockbot.back.provider.NotificationHubProvider;
+import com.rockbot.back.repository.NotificationRepository;
+import com.rockbot.back.service.NotificationService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationServiceImplement implements NotificationService {
+
+    private static final String UNREAD = "Unread";
+
+    // 스트림 토큰은 접속할 때만 확인하므로 재연결에 필요한 만큼만 유효
+    private static final long STREAM_TOKEN_SECONDS = 60;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationHubProvider notificationHubProvider;
+    private final JwtProvider jwtProvider;
+
+    @Override
+    public ResponseEntity<? super PostNotificationStreamTokenResponseDto> postNotificationStreamToken(String userId,
+            String principal) {
+
+        // 본인 알림만 구독할 수 있음
+        if (principal == null || !principal.equals(userId))
+            return ResponseDto.noPermission();
+
+        String token = jwtProvider.createStreamToken(userId, STREAM_TOKEN_SECONDS);
+        return PostNotificationStreamTokenResponseDto.success(token, STREAM_TOKEN_SECONDS);
+
+    }
+
+    @Override
+    public ResponseEntity<?> subscribeNotification(String userId, String token) {
+
+        // 토큰의 사용자와 경로의 사용자가 같아야 함 (EventSource는 오류 본문을 읽지 않으므로 본문 없이 거부)
+        String tokenUserId = token == null ? null : jwtProvider.validateStreamToken(token);
+        if (tokenUserId == null || !tokenUserId.equals(userId))
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+
+        // DB는 접속 시 미확인 알림을 한 번만 조회하고 이후 알림은 허브에서 전달
+        SseEmitter emitter = notificationHubProvider.subscribe(userId,
+                () -> notificationRepository.findByUserIdAndStatus(userId, UNREAD));
+        return ResponseEntity.ok(emitter);
+
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<? super ReadNotificationListResponseDto> readNotificationList(String userId,
+            ReadNotificationListRequestDto dto, String principal) {
+
+        // 본인 알림만 읽음 처리할 수 있음
+        if (principal == null || !principal.equals(userId))
+            return ResponseDto.noPermission();
+
+        List<Integer> notificationIds = dto.getNotificationIds();
+        Integer beforeNotificationId = dto.getBeforeNotificationId();
+
+        boolean hasIds = notificationIds != null && !notificationIds.isEmpty();
+        if (hasIds == (beforeNotificationId != null))
+            return ResponseDto.validationFail();
+
+        int readCount = 0;
+        long unreadCount = 0;
+
+        try {
+
+            // 조회 없이 한 번의 UPDATE로 처리
+            if (hasIds)
+                readCount = notificationRepository.readNotifications(userId, notificationIds);
+            else
+                readCount = notificationRepository.readNotificationsBefore(userId, beforeNotificationId);
+
+            unreadCount = notificationRepository.countByUserIdAndStatus(userId, UNREAD);
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ResponseDto.databaseError();
+        }
+
+        return ReadNotificationListResponseDto.success(readCount, unreadCount);
+
+    }
+
+}
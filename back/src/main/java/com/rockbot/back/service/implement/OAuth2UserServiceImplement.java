@@ -1,18 +1,26 @@
 package com.rockbot.back.service.implement;
 
 import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rockbot.back.entity.CustomOAuth2User;
 import com.rockbot.back.entity.UserEntity;
+import com.rockbot.back.provider.OAuthUserCacheProvider;
+import com.rockbot.back.provider.OAuthUserCacheProvider.OAuthUser;
+import com.rockbot.back.provider.UserIdFilterProvider;
+import com.rockbot.back.provider.UserSearchIndexProvider;
+import com.rockbot.back.provider.UserSearchIndexProvider.UserDocument;
 import com.rockbot.back.repository.UserRepository;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -20,6 +28,16 @@ import lombok.RequiredArgsConstructor;
 public class OAuth2UserServiceImplement extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final OAuthUserCacheProvider oAuthUserCacheProvider;
+    private final RestTemplate oAuthRestTemplate;
+    private final UserSearchIndexProvider userSearchIndexProvider;
+    private final UserIdFilterProvider userIdFilterProvider;
+
+    // 사용자 정보 조회에 연결 풀과 시간 제한이 설정된 클라이언트 사용
+    @PostConstruct
+    public void initRestOperations() {
+        setRestOperations(oAuthRestTemplate);
+    }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest request) throws OAuth2AuthenticationException {
@@ -53,8 +71,43 @@ public class OAuth2UserServiceImplement extends DefaultOAuth2UserService {
             name = responseMap.get("name");
             userEntity = new UserEntity(userId, email, name, "naver");
         }
-        userRepository.save(userEntity);
 
-        return new CustomOAuth2User(userId, name);
+        // 이미 알고 있는 사용자이고 프로필이 그대로면 DB를 조회하거나 쓰지 않음
+        OAuthUser oAuthUser = oAuthUserCacheProvider.get(userId);
+        if (oAuthUser == null || !isSameProfile(oAuthUser, userEntity)) {
+            oAuthUser = upsert(userEntity);
+            oAuthUserCacheProvider.put(userId, oAuthUser);
+        }
+
+        return new CustomOAuth2User(userId, name, oAuthUser.role(), oAuthUser.departmentId());
+    }
+
+    // 신규 사용자는 저장하고, 기존 사용자는 변경된 프로필만 갱신 (role, 부서는 관리자가 지정한 값을 유지)
+    private OAuthUser upsert(UserEntity userEntity) {
+
+        UserEntity savedUserEntity = userRepository.findByUserId(userEntity.getUserId());
+
+        if (savedUserEntity == null) {
+            userRepository.save(userEntity);
+            userSearchIndexProvider.put(userEntity);
+            userIdFilterProvider.put(userEntity.getUserId());
+            return new OAuthUser(userEntity);
+        }
+
+        if (!isSameProfile(new OAuthUser(savedUserEntity), userEntity)) {
+            userRepository.updateProfile(userEntity.getUserId(), userEntity.getName(), userEntity.getEmail());
+            userSearchIndexProvider.put(new UserDocument(savedUserEntity.getUserId(), userEntity.getName(),
+                    userEntity.getEmail(), savedUserEntity.getType(), savedUserEntity.getRole(),
+                    savedUserEntity.getDepartmentId()));
+        }
+
+        return new OAuthUser(userEntity.getName(), userEntity.getEmail(),
+                savedUserEntity.getRole(), savedUserEntity.getDepartmentId());
+
+    }
+
+    private boolean isSameProfile(OAuthUser oAuthUser, UserEntity userEntity) {
+        return Objects.equals(oAuthUser.name(), userEntity.getName())
+                && Objects.equals(oAuthUser.email(), userEntity.getEmail());
     }
 }
@@ -0,0 +1,509 @@
+package com.rockbot.back.service.implement;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.rockbot.back.common.TravelStatus;
+import com.rockbot.back.dto.object.TravelRequestStatusResultItem;
+import com.rockbot.back.dto.request.travel.ChangeTravelRequestStatusRequestDto;
+import com.rockbot.back.dto.request.travel.PostTravelRequestListItemRequestDto;
+import com.rockbot.back.dto.request.travel.PostTravelRequestListRequestDto;
+import com.rockbot.back.dto.request.travel.PostTravelRequestRequestDto;
+import com.rockbot.back.dto.request.travel.UpdateTravelRequestStatusRequestDto;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.dto.response.travel.ChangeTravelRequestStatusResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelOverlapResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelRequestChangeListResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelRequestListResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelScheduleListResponseDto;
+import com.rockbot.back.dto.response.travel.GetTravelStatsResponseDto;
+import com.rockbot.back.dto.response.travel.PostTravelRequestListResponseDto;
+import com.rockbot.back.dto.response.travel.PostTravelRequestResponseDto;
+import com.rockbot.back.dto.response.travel.UpdateTravelRequestStatusResponseDto;
+import com.rockbot.back.entity.NotificationEntity;
+import com.rockbot.back.entity.TravelEntity;
+import com.rockbot.back.entity.UserEntity;
+import com.rockbot.back.provider.DepartmentCatalogProvider;
+import com.rockbot.back.provider.NotificationHubProvider;
+import com.rockbot.back.provider.TravelExportProvider;
+import com.rockbot.back.provider.TravelScheduleProvider;
+import com.rockbot.back.provider.TravelScheduleProvider.TravelSchedule;
+import com.rockbot.back.provider.TravelStatsProvider;
+import com.rockbot.back.repository.NotificationJdbcRepository;
+import com.rockbot.back.repository.TravelRequestJdbcRepository;
+import com.rockbot.back.repository.TravelRequestRepository;
+import com.rockbot.back.repository.UserRepository;
+import com.rockbot.back.repository.resultSet.TravelRequestChangeResultSet;
+import com.rockbot.back.repository.resultSet.TravelRequestListResultSet;
+import com.rockbot.back.service.TravelRequestService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TravelRequestServiceImplement implements TravelRequestService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_SCHEDULE_DAYS = 366;
+
+    // 관리자 페이지에서 보내던 알림 문구와 동일한 형식
+    private static final DateTimeFormatter NOTIFICATION_DATE_FORMAT = DateTimeFormatter
+            .ofPattern("yyyy년 M월 d일 a h시 m분 s초", Locale.KOREAN);
+    private static final Map<TravelStatus, String> STATUS_MESSAGES = Map.of(
+            TravelStatus.APPROVED, "승인",
+            TravelStatus.REJECTED, "거절");
+
+    // cursor 형식 : {submissionDate}_{requestId}
+    private static final String CURSOR_DELIMITER = "_";
+
+    private final TravelRequestRepository travelRequestRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final TravelRequestJdbcRepository travelRequestJdbcRepository;
+    private final UserRepository userRepository;
+    private final DepartmentCatalogProvider departmentCatalogProvider;
+    private final TravelStatsProvider travelStatsProvider;
+    private final TravelExportProvider travelExportProvider;
+    private final TravelScheduleProvider travelScheduleProvider;
+    private final NotificationHubProvider notificationHubProvider;
+
+
+    @Override
+    @Transactional
+    public ResponseEntity<? super PostTravelRequestResponseDto> postTravelRequest(PostTravelRequestRequestDto dto,
+            String userId) {
+
+        if (dto.getReturnDate().isBefore(dto.getTravelDate()))
+            return ResponseDto.validationFail();
+
+        TravelEntity travelEntity = null;
+        List<TravelSchedule> conflicts = null;
+
+        try {
+
+            // 이름과 부서는 요청 본문이 아닌 사용자 정보에서 가져옴
+            UserEntity userEntity = userRepository.findByUserId(userId);
+            if (userEntity == null)
+                return ResponseDto.noPermission();
+
+            conflicts = travelScheduleProvider.findByUser(userId, dto.getTravelDate(), dto.getReturnDate());
+
+            travelEntity = new TravelEntity(dto, userEntity, LocalDateTime.now());
+            travelRequestRepository.save(travelEntity);
+
+            travelStatsProvider.invalidate();
+            travelScheduleProvider.syncAfterCommit();
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ResponseDto.databaseError();
+        }
+
+        return PostTravelRequestResponseDto.success(travelEntity.getRequestId(), conflicts,
+                departmentCatalogProvider.getCatalog().departmentNames());
+
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<? super PostTravelRequestListResponseDto> postTravelRequestList(
+            PostTravelRequestListRequestDto dto) {
+
+        List<PostTravelRequestListItemRequestDto> travelRequestList = dto.getTravelRequestList();
+        for (PostTravelRequestListItemRequestDto travelRequest : travelRequestList) {
+            if (travelRequest.getReturnDate().isBefore(travelRequest.getTravelDate()))
+                return ResponseDto.validationFail();
+            if (travelRequest.getStatus() != null && TravelStatus.from(travelRequest.getStatus()) == null)
+                return ResponseDto.validationFail();
+        }
+
+        List<Long> requestIds = new ArrayList<>();
+
+        try {
+
+            // 여러 행을 넣으므로 순번 행을 먼저 잠가 다른 변경과 잠금 순서를 맞춤
+            travelRequestRepository.lockChangeSeq();
+            LocalDateTime now = LocalDateTime.now();
+
+            List<TravelEntity> travelEntities = new ArrayList<>();
+
+            for (PostTravelRequestListItemRequestDto travelRequest : travelRequestList) {
+
+                String status = travelRequest.getStatus() == null ? TravelStatus.PENDING.getValue()
+                        : travelRequest.getStatus();
+                LocalDateTime submissionDate = travelRequest.getSubmissionDate() == null ? now
+                        : travelRequest.getSubmissionDate();
+
+                travelEntities.add(new TravelEntity(travelRequest, status, submissionDate));
+
+            }
+
+            // rewriteBatchedStatements로 여러 행 INSERT로 묶여 전송되고 생성된 ID가 채워짐
+            travelRequestJdbcRepository.saveAll(travelEntities);
+            for (TravelEntity travelEntity : travelEntities)
+                requestIds.add(travelEntity.getRequestId());
+
+            travelStatsProvider.invalidate();
+            travelScheduleProvider.syncAfterCommit();
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ResponseDto.databaseError();
+        }
+
+        return PostTravelRequestListResponseDto.success(requestIds);
+
+    }
+
+    @Override
+    public ResponseEntity<? super GetTravelRequestListResponseDto> getTravelRequestList(String cursor, int size,
+            String status, Integer departmentId, String userId, LocalDate fromDate, LocalDate toDate) {
+
+        List<TravelRequestListResultSet> resultSets = null;
+        String nextCursor = null;
+        String changeCursor = null;
+
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            return ResponseDto.validationFail();
+
+        LocalDateTime cursorDate = null;
+        Long cursorId = null;
+        if (cursor != null) {
+            try {
+                int index = cursor.lastIndexOf(CURSOR_DELIMITER);
+                cursorDate = LocalDateTime.parse(cursor.substring(0, index));
+                cursorId = Long.parseLong(cursor.substring(index + 1));
+            } catch (Exception exception) {
+                return ResponseDto.validationFail();
+            }
+        }
+
+        // 기간 필터는 제출일 기준, 종료일 포함
+        LocalDateTime fromDateTime = fromDate == null ? null : fromDate.atStartOfDay();
+        LocalDateTime toDateTime = toDate == null ? null : toDate.plusDays(1).atStartOfDay();
+
+        try {
+
+            // 목록보다 먼저 읽어야 그 사이의 변경이 피드에서 빠지지 않음
+            if (cursor == null)
+                changeCursor = String.valueOf(travelRequestRepository.getChangeSeq());
+
+            // 한 건 더 조회해서 다음 페이지 존재 여부 확인
+            resultSets = travelRequestRepository.findTravelRequestList(cursorDate, cursorId, status, departmentId,
+                    userId, fromDateTime, toDateTime, PageRequest.of(0, size + 1));
+
+            if (resultSets.size() > size) {
+                resultSets = resultSets.subList(0, size);
+                TravelRequestListResultSet last = resultSets.get(size - 1);
+                nextCursor = last.getSubmissionDate() + CURSOR_DELIMITER + last.getRequestId();
+            }
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        return GetTravelRequestListResponseDto.success(resultSets,
+                departmentCatalogProvider.getCatalog().departmentNames(), nextCursor, changeCursor);
+
+    }
+
+    @Override
+    public ResponseEntity<? super GetTravelRequestChangeListResponseDto> getTravelRequestChangeList(String since,
+            int size) {
+
+        List<TravelRequestChangeResultSet> resultSets = null;
+        String nextCursor = since;
+        boolean hasMore = false;
+
+        if (size < 1 || size > MAX_PAGE_SIZE)
+            return ResponseDto.validationFail();
+
+        // since 형식 : {changeSeq} 또는 이전 응답의 nextCursor인 {changeSeq}_{requestId}
+        long changeSeq;
+        long requestId = Long.MAX_VALUE;
+        try {
+            int index = since.indexOf(CURSOR_DELIMITER);
+            if (index < 0) {
+                changeSeq = Long.parseLong(since);
+            } else {
+                changeSeq = Long.parseLong(since.substring(0, index));
+                requestId = Long.parseLong(since.substring(index + 1));
+            }
+        } catch (Exception exception) {
+            return ResponseDto.validationFail();
+        }
+
+        try {
+
+            resultSets = travelRequestRepository.findChangeList(changeSeq, requestId, PageRequest.of(0, size + 1));
+
+            if (resultSets.size() > size) {
+                resultSets = resultSets.subList(0, size);
+                hasMore = true;
+            }
+            if (!resultSets.isEmpty()) {
+                TravelRequestChangeResultSet last = resultSets.get(resultSets.size() - 1);
+                nextCursor = last.getChangeSeq() + CURSOR_DELIMITER + last.getRequestId();
+            }
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        return GetTravelRequestChangeListResponseDto.success(resultSets,
+                departmentCatalogProvider.getCatalog().departmentNames(), nextCursor, hasMore);
+
+    }
+
+    @Override
+    public ResponseEntity<?> exportTravelRequests(String format, boolean gzip, String status, Integer departmentId,
+            LocalDate fromDate, LocalDate toDate) {
+
+        MediaType mediaType;
+        if (TravelExportProvider.CSV.equals(format))
+            mediaType = new MediaType("text", "csv", StandardCharsets.UTF_8);
+        else if (TravelExportProvider.NDJSON.equals(format))
+            mediaType = MediaType.APPLICATION_NDJSON;
+        else
+            return ResponseDto.validationFail();
+
+        LocalDateTime fromDateTime = fromDate == null ? null : fromDate.atStartOfDay();
+        LocalDateTime toDateTime = toDate == null ? null : toDate.plusDays(1).atStartOfDay();
+
+        String fileName = "travel-requests." + format + (gzip ? ".gz" : "");
+        if (gzip)
+            mediaType = new MediaType("application", "gzip");
+
+        // 트랜잭션과 조회는 응답 스트림을 쓰는 시점에 열림
+        StreamingResponseBody responseBody = outputStream -> travelExportProvider.export(format, gzip, status,
+                departmentId, fromDateTime, toDateTime, outputStream);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(responseBody);
+
+    }
+
+    @Override
+    public ResponseEntity<? super GetTravelScheduleListResponseDto> getTravelScheduleList(int departmentId,
+            LocalDate fromDate, LocalDate toDate, boolean includePending) {
+
+        if (!isValidPeriod(fromDate, toDate))
+            return ResponseDto.validationFail();
+
+        List<TravelSchedule> schedules = travelScheduleProvider.findByDepartment(departmentId, fromDate, toDate,
+                includePending);
+
+        return GetTravelScheduleListResponseDto.success(schedules,
+                departmentCatalogProvider.getCatalog().departmentNames());
+
+    }
+
+    @Override
+    public ResponseEntity<? super GetTravelOverlapResponseDto> getTravelOverlap(String userId, int departmentId,
+            LocalDate fromDate, LocalDate toDate) {
+
+        if (!isValidPeriod(fromDate, toDate))
+            return ResponseDto.validationFail();
+
+        List<TravelSchedule> conflicts = travelScheduleProvider.findByUser(userId, fromDate, toDate);
+        List<TravelSchedule> departmentSchedules = travelScheduleProvider.findByDepartment(departmentId, fromDate,
+                toDate, true);
+        departmentSchedules.removeIf(schedule -> schedule.userId().equals(userId));
+
+        return GetTravelOverlapResponseDto.success(conflicts, departmentSchedules,
+                departmentCatalogProvider.getCatalog().departmentNames());
+
+    }
+
+    @Override
+    public ResponseEntity<? super GetTravelStatsResponseDto> getTravelStats(String month, Integer departmentId) {
+
+        String statsMonth = TravelStatsProvider.ALL_MONTHS;
+        if (month != null) {
+            try {
+                statsMonth = YearMonth.parse(month).toString();
+            } catch (Exception exception) {
+                return ResponseDto.validationFail();
+            }
+        }
+
+        // 요약 테이블의 메모리 사본에서 바로 조회
+        Map<Integer, Map<String, Long>> counts = departmentId == null ? travelStatsProvider.getCounts(statsMonth)
+                : Map.of(departmentId, travelStatsProvider.getCounts(statsMonth, departmentId));
+
+        return GetTravelStatsResponseDto.success(month == null ? null : statsMonth, counts,
+                departmentCatalogProvider.getCatalog().departmentNames());
+
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<? super ChangeTravelRequestStatusResponseDto> changeTravelRequestStatus(Long requestId,
+            ChangeTravelRequestStatusRequestDto dto) {
+
+        TravelStatus nextStatus = TravelStatus.from(dto.getStatus());
+        if (nextStatus == null)
+            return ResponseDto.validationFail();
+
+        List<String> previousStatuses = TravelStatus.getPreviousValues(nextStatus);
+        if (previousStatuses.isEmpty())
+            return ResponseDto.validationFail();
+
+        try {
+
+            // 일괄 변경과 같은 순서로 순번 행부터 잠금
+            travelRequestRepository.lockChangeSeq();
+
+            // 이전 상태별로 조건부 UPDATE (현재 규칙에서는 이전 상태가 하나뿐이라 한 번)
+            String previousStatus = null;
+            for (String candidate : previousStatuses) {
+                int updatedCount = travelRequestRepository.updateStatus(requestId, nextStatus.getValue(), candidate,
+                        dto.getVersion());
+                if (updatedCount > 0) {
+                    previousStatus = candidate;
+                    break;
+                }
+            }
+
+            // 실패한 경우에만 원인 확인을 위해 한 번 더 조회
+            if (previousStatus == null) {
+                boolean isExisted = travelRequestRepository.existsById(requestId);
+                if (!isExisted)
+                    return ChangeTravelRequestStatusResponseDto.notExistTravelRequest();
+                return ChangeTravelRequestStatusResponseDto.statusConflict();
+            }
+
+            travelStatsProvider.invalidate();
+            travelScheduleProvider.syncAfterCommit();
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ResponseDto.databaseError();
+        }
+
+        return ChangeTravelRequestStatusResponseDto.success(nextStatus.getValue());
+
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<? super UpdateTravelRequestStatusResponseDto> updateTravelRequestStatus(
+            UpdateTravelRequestStatusRequestDto dto) {
+
+        TravelStatus nextStatus = TravelStatus.from(dto.getStatus());
+        String statusMessage = STATUS_MESSAGES.get(nextStatus);
+        Set<Long> requestIds = new LinkedHashSet<>(dto.getRequestIds());
+
+        if (statusMessage == null || requestIds.size() > MAX_BATCH_SIZE || requestIds.contains(null))
+            return ResponseDto.validationFail();
+
+        List<TravelRequestStatusResultItem> resultList = new ArrayList<>();
+        int updatedCount = 0;
+
+        try {
+
+            // 행을 잠그기 전에 순번 행을 먼저 잠가서 트리거가 순번을 발급할 때 교착이 생기지 않도록 함
+            travelRequestRepository.lockChangeSeq();
+
+            Map<Long, TravelEntity> travelEntities = new HashMap<>();
+            for (TravelEntity travelEntity : travelRequestRepository.findAllForUpdate(List.copyOf(requestIds)))
+                travelEntities.put(travelEntity.getRequestId(), travelEntity);
+
+            List<Long> targetIds = new ArrayList<>();
+            List<NotificationEntity> notifications = new ArrayList<>();
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+
+            for (Long requestId : requestIds) {
+
+                TravelEntity travelEntity = travelEntities.get(requestId);
+                if (travelEntity == null) {
+                    resultList.add(new TravelRequestStatusResultItem(requestId, "NOT_FOUND"));
+                    continue;
+                }
+                TravelStatus status = TravelStatus.from(travelEntity.getStatus());
+                if (status == nextStatus) {
+                    resultList.add(new TravelRequestStatusResultItem(requestId, "UNCHANGED"));
+                    continue;
+                }
+                if (status == null || !status.canTransitionTo(nextStatus)) {
+                    resultList.add(new TravelRequestStatusResultItem(requestId, "CONFLICT"));
+                    continue;
+                }
+
+                targetIds.add(requestId);
+                notifications.add(createNotification(travelEntity, statusMessage, now));
+                resultList.add(new TravelRequestStatusResultItem(requestId, "UPDATED"));
+
+            }
+
+            if (!targetIds.isEmpty()) {
+                updatedCount = travelRequestRepository.updateStatus(targetIds, nextStatus.getValue(),
+                        TravelStatus.getPreviousValues(nextStatus));
+                notificationJdbcRepository.saveAll(notifications);
+                notificationHubProvider.publish(notifications);
+                travelStatsProvider.invalidate();
+                travelScheduleProvider.syncAfterCommit();
+            }
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ResponseDto.databaseError();
+        }
+
+        return UpdateTravelRequestStatusResponseDto.success(updatedCount, resultList);
+
+    }
+
+    private boolean isValidPeriod(LocalDate fromDate, LocalDate toDate) {
+        if (fromDate.isAfter(toDate))
+            return false;
+        return !fromDate.plusDays(MAX_SCHEDULE_DAYS).isBefore(toDate);
+    }
+
+    private NotificationEntity createNotification(TravelEntity travelEntity, String statusMessage, Timestamp now) {
+
+        String submissionDate = travelEntity.getSubmissionDate() == null ? "날짜 정보 없음"
+                : travelEntity.getSubmissionDate().format(NOTIFICATION_DATE_FORMAT);
+
+        NotificationEntity notification = new NotificationEntity();
+        notification.setUserId(travelEntity.getUserId());
+        notification.setMessage(submissionDate + " 신청한 " + travelEntity.getDestination() + " 출장 요청이 "
+                + statusMessage + "되었습니다.");
+        notification.setStatus("Unread");
+        notification.setNotificationDate(now);
+        return notification;
+
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.rockbot.back.service.implement;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.rockbot.back.dto.request.user.UpdateUserDepartmentRequestDto;
+import com.rockbot.back.dto.response.ResponseDto;
+import com.rockbot.back.dto.response.user.GetUserListResponseDto;
+import com.rockbot.back.dto.response.user.UpdateUserDepartmentResponseDto;
+import com.rockbot.back.provider.DepartmentCatalogProvider;
+import com.rockbot.back.provider.OAuthUserCacheProvider;
+import com.rockbot.back.provider.PrincipalCacheProvider;
+import com.rockbot.back.provider.UserSearchIndexProvider;
+import com.rockbot.back.provider.UserSearchIndexProvider.UserDocument;
+import com.rockbot.back.repository.UserRepository;
+import com.rockbot.back.repository.resultSet.UserListResultSet;
+import com.rockbot.back.service.UserService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class UserServiceImplement implements UserService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_SIZE = 50;
+
+    private final UserRepository userRepository;
+    private final DepartmentCatalogProvider departmentCatalogProvider;
+
+    private final PrincipalCacheProvider principalCacheProvider;
+    private final OAuthUserCacheProvider oAuthUserCacheProvider;
+    private final UserSearchIndexProvider userSearchIndexProvider;
+
+    @Override
+    public ResponseEntity<? super GetUserListResponseDto> getUserList(String cursor, int size, Integer departmentId,
+            String role) {
+
+        List<UserListResultSet> resultSets = null;
+        String nextCursor = null;
+
+        try {
+
+            if (size < 1 || size > MAX_PAGE_SIZE)
+                return ResponseDto.validationFail();
+
+            // 한 건 더 조회해서 다음 페이지 존재 여부 확인
+            resultSets = userRepository.findUserList(cursor, departmentId, role, PageRequest.of(0, size + 1));
+
+            if (resultSets.size() > size) {
+                resultSets = resultSets.subList(0, size);
+                nextCursor = resultSets.get(size - 1).getUserId();
+            }
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            return ResponseDto.databaseError();
+        }
+
+        return GetUserListResponseDto.success(resultSets, departmentCatalogProvider.getCatalog().departmentNames(),
+                nextCursor);
+
+    }
+
+    @Override
+    public ResponseEntity<? super GetUserListResponseDto> searchUserList(String query, int limit,
+            Integer departmentId) {
+
+        if (limit < 1 || limit > MAX_SEARCH_SIZE)
+            return ResponseDto.validationFail();
+
+        if (query.trim().length() < UserSearchIndexProvider.MIN_QUERY_LENGTH)
+            return ResponseDto.validationFail();
+
+        // DB를 거치지 않고 메모리 색인에서 바로 조회
+        List<UserDocument> documents = userSearchIndexProvider.search(query, departmentId, limit);
+
+        return GetUserListResponseDto.success(documents, departmentCatalogProvider.getCatalog().departmentNames(),
+                null);
+
+    }
+
+    @Override
+    @Transactional
+    public ResponseEntity<? super UpdateUserDepartmentResponseDto> updateUserDepartment(
+            UpdateUserDepartmentRequestDto dto) {
+
+        int affectedCount = 0;
+
+        try {
+
+            List<String> userIds = dto.getUserIds();
+            Integer fromDepartmentId = dto.getFromDepartmentId();
+
+            boolean hasUserIds = userIds != null && !userIds.isEmpty();
+            boolean hasFilter = fromDepartmentId != null;
+            if (hasUserIds == hasFilter)
+                return ResponseDto.validationFail();
+
+            int departmentId = dto.getDepartmentId();
+
+            // 부서 조건으로 지정한 경우 대상 ID를 조회하지 않고 조건으로 한 번에 UPDATE
+            if (hasFilter) {
+                affectedCount = userRepository.updateDepartmentIdByDepartmentId(fromDepartmentId, departmentId);
+                if (affectedCount == 0)
+                    return UpdateUserDepartmentResponseDto.success(0);
+
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        principalCacheProvider.invalidateAll();
+                        oAuthUserCacheProvider.invalidateAll();
+                        userSearchIndexProvider.moveDepartment(fromDepartmentId, departmentId);
+                    }
+                });
+                return UpdateUserDepartmentResponseDto.success(affectedCount);
+            }
+
+            affectedCount = userRepository.updateDepartmentId(userIds, departmentId);
+
+            List<String> changedUserIds = userIds;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateUsers(changedUserIds);
+                    userSearchIndexProvider.updateDepartment(changedUserIds, departmentId);
+                }
+            });
+
+        } catch (Exception exception) {
+            exception.printStackTrace();
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return ResponseDto.databaseError();
+        }
+
+        return UpdateUserDepartmentResponseDto.success(affectedCount);
+
+    }
+
+    // 커밋 이후에 무효화해야 다른 요청이 변경 전 값을 다시 캐시하지 않음
+    private void invalidateUsers(List<String> userIds) {
+        principalCacheProvider.invalidate(userIds);
+        oAuthUserCacheProvider.invalidate(userIds);
+    }
+
+}
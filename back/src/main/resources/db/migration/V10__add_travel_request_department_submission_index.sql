@@ -0,0 +1 @@
+CREATE INDEX idx_travel_request_department_only_submission ON travel_request (department_id, submission_date, request_id);
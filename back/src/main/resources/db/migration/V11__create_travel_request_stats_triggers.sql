@@ -0,0 +1,52 @@
+-- 챗봇처럼 백엔드를 거치지 않고 travel_request에 직접 쓰는 경로도 집계되도록 요약 테이블을 트리거로 유지
+DELIMITER $$
+
+CREATE TRIGGER trg_travel_request_stats_insert AFTER INSERT ON travel_request
+FOR EACH ROW
+BEGIN
+    IF NEW.department_id IS NOT NULL AND NEW.status IS NOT NULL AND COALESCE(NEW.submission_date, NEW.travel_date) IS NOT NULL THEN
+        INSERT INTO travel_request_stats (department_id, month, status, request_count)
+        VALUES (NEW.department_id, DATE_FORMAT(COALESCE(NEW.submission_date, NEW.travel_date), '%Y-%m'), NEW.status, 1)
+        ON DUPLICATE KEY UPDATE request_count = request_count + 1;
+    END IF;
+END$$
+
+CREATE TRIGGER trg_travel_request_stats_update AFTER UPDATE ON travel_request
+FOR EACH ROW
+BEGIN
+    IF NOT (OLD.department_id <=> NEW.department_id
+            AND OLD.status <=> NEW.status
+            AND DATE_FORMAT(COALESCE(OLD.submission_date, OLD.travel_date), '%Y-%m')
+                <=> DATE_FORMAT(COALESCE(NEW.submission_date, NEW.travel_date), '%Y-%m')) THEN
+        IF OLD.department_id IS NOT NULL AND OLD.status IS NOT NULL AND COALESCE(OLD.submission_date, OLD.travel_date) IS NOT NULL THEN
+            INSERT INTO travel_request_stats (department_id, month, status, request_count)
+            VALUES (OLD.department_id, DATE_FORMAT(COALESCE(OLD.submission_date, OLD.travel_date), '%Y-%m'), OLD.status, -1)
+            ON DUPLICATE KEY UPDATE request_count = request_count - 1;
+        END IF;
+        IF NEW.department_id IS NOT NULL AND NEW.status IS NOT NULL AND COALESCE(NEW.submission_date, NEW.travel_date) IS NOT NULL THEN
+            INSERT INTO travel_request_stats (department_id, month, status, request_count)
+            VALUES (NEW.department_id, DATE_FORMAT(COALESCE(NEW.submission_date, NEW.travel_date), '%Y-%m'), NEW.status, 1)
+            ON DUPLICATE KEY UPDATE request_count = request_count + 1;
+        END IF;
+    END IF;
+END$$
+
+CREATE TRIGGER trg_travel_request_stats_delete AFTER DELETE ON travel_request
+FOR EACH ROW
+BEGIN
+    IF OLD.department_id IS NOT NULL AND OLD.status IS NOT NULL AND COALESCE(OLD.submission_date, OLD.travel_date) IS NOT NULL THEN
+        INSERT INTO travel_request_stats (department_id, month, status, request_count)
+        VALUES (OLD.department_id, DATE_FORMAT(COALESCE(OLD.submission_date, OLD.travel_date), '%Y-%m'), OLD.status, -1)
+        ON DUPLICATE KEY UPDATE request_count = request_count - 1;
+    END IF;
+END$$
+
+DELIMITER ;
+
+-- 트리거 생성 이전에 직접 들어온 데이터로 어긋난 값을 한 번 바로잡음
+DELETE FROM travel_request_stats;
+INSERT INTO travel_request_stats (department_id, month, status, request_count)
+SELECT department_id, DATE_FORMAT(COALESCE(submission_date, travel_date), '%Y-%m'), status, COUNT(*)
+FROM travel_request
+WHERE department_id IS NOT NULL AND status IS NOT NULL AND COALESCE(submission_date, travel_date) IS NOT NULL
+GROUP BY department_id, DATE_FORMAT(COALESCE(submission_date, travel_date), '%Y-%m'), status;
@@ -0,0 +1,18 @@
+-- 목록 커서가 (submission_date, request_id)이므로 제출일이 없는 요청은 다음 페이지로 넘어갈 수 없음
+-- 기존 데이터는 출장일(없으면 현재 시각)로 채우고 NOT NULL로 변경
+UPDATE travel_request SET submission_date = COALESCE(travel_date, CURRENT_TIMESTAMP(6)) WHERE submission_date IS NULL;
+
+ALTER TABLE travel_request MODIFY submission_date DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+-- 챗봇처럼 제출일을 NULL로 직접 넣는 경로는 삽입 시각으로 채움
+DELIMITER $$
+
+CREATE TRIGGER trg_travel_request_submission_date_insert BEFORE INSERT ON travel_request
+FOR EACH ROW
+BEGIN
+    IF NEW.submission_date IS NULL THEN
+        SET NEW.submission_date = CURRENT_TIMESTAMP(6);
+    END IF;
+END$$
+
+DELIMITER ;
@@ -0,0 +1,11 @@
+CREATE TABLE refresh_token (
+    token_hash CHAR(64) NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    family_id CHAR(36) NOT NULL,
+    used BOOLEAN NOT NULL DEFAULT FALSE,
+    expires_at DATETIME NOT NULL,
+    created_at DATETIME NOT NULL,
+    PRIMARY KEY (token_hash),
+    INDEX idx_refresh_token_family_id (family_id),
+    INDEX idx_refresh_token_expires_at (expires_at)
+);
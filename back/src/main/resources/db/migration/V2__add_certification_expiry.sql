@@ -0,0 +1,3 @@
+ALTER TABLE certification
+    ADD COLUMN expires_at DATETIME NULL,
+    ADD COLUMN attempts INT NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+CREATE INDEX idx_user_department_id_user_id ON `user` (department_id, user_id);
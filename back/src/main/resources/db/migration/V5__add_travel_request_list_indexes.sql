@@ -0,0 +1,4 @@
+CREATE INDEX idx_travel_request_submission ON travel_request (submission_date, request_id);
+CREATE INDEX idx_travel_request_status_submission ON travel_request (status, submission_date, request_id);
+CREATE INDEX idx_travel_request_department_submission ON travel_request (department_id, status, submission_date, request_id);
+CREATE INDEX idx_travel_request_user_submission ON travel_request (user_id, submission_date, request_id);
@@ -0,0 +1 @@
+ALTER TABLE travel_request ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,7 @@
+CREATE TABLE travel_request_stats (
+    department_id INT NOT NULL,
+    month CHAR(7) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    request_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (department_id, month, status)
+);
@@ -0,0 +1,37 @@
+-- 변경 피드 : 출장 요청이 생성, 변경될 때마다 travel_request_sequence의 'change' 순번을 새로 발급해 change_seq에 기록
+CREATE TABLE travel_request_sequence (
+    name VARCHAR(50) NOT NULL,
+    value BIGINT NOT NULL,
+    PRIMARY KEY (name)
+);
+
+ALTER TABLE travel_request ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+UPDATE travel_request SET change_seq = request_id;
+CREATE INDEX idx_travel_request_change_seq ON travel_request (change_seq, request_id);
+
+INSERT INTO travel_request_sequence (name, value)
+SELECT 'change', COALESCE(MAX(change_seq), 0) FROM travel_request;
+
+-- 변경 피드 순번을 DB에서 발급해서 챗봇처럼 백엔드를 거치지 않는 삽입, 변경도 피드에 나타나도록 함
+-- 순번 행의 잠금이 커밋까지 유지되므로 순번 순서와 커밋 순서가 같음
+DELIMITER $$
+
+CREATE TRIGGER trg_travel_request_change_seq_insert BEFORE INSERT ON travel_request
+FOR EACH ROW
+BEGIN
+    DECLARE next_seq BIGINT;
+    UPDATE travel_request_sequence SET value = value + 1 WHERE name = 'change';
+    SELECT value INTO next_seq FROM travel_request_sequence WHERE name = 'change';
+    SET NEW.change_seq = next_seq;
+END$$
+
+CREATE TRIGGER trg_travel_request_change_seq_update BEFORE UPDATE ON travel_request
+FOR EACH ROW
+BEGIN
+    DECLARE next_seq BIGINT;
+    UPDATE travel_request_sequence SET value = value + 1 WHERE name = 'change';
+    SELECT value INTO next_seq FROM travel_request_sequence WHERE name = 'change';
+    SET NEW.change_seq = next_seq;
+END$$
+
+DELIMITER ;
@@ -0,0 +1 @@
+CREATE INDEX idx_notification_user_status ON notification (user_id, status, notification_id);
@@ -0,0 +1,194 @@
+package com.rockbot.back.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OAuthClientInterceptorTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_MILLIS = 100;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OAuthClientInterceptor oAuthClientInterceptor;
+    private HttpRequest request;
+    private ClientHttpRequestExecution execution;
+
+    @BeforeEach
+    void setUp() {
+        oAuthClientInterceptor = new OAuthClientInterceptor(Map.of("kauth.kakao.com", "kakao"), meterRegistry,
+                FAILURE_THRESHOLD, OPEN_MILLIS);
+
+        request = mock(HttpRequest.class);
+        when(request.getURI()).thenReturn(URI.create("https://kauth.kakao.com/oauth/token"));
+        execution = mock(ClientHttpRequestExecution.class);
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() throws Exception {
+
+        when(execution.execute(any(), any())).thenThrow(new IOException("connect timed out"));
+
+        for (int attempt = 0; attempt < FAILURE_THRESHOLD; attempt++)
+            assertThatThrownBy(() -> intercept()).hasMessage("connect timed out");
+
+        // 열린 동안에는 제공자를 호출하지 않고 바로 실패
+        assertThatThrownBy(() -> intercept()).hasMessageContaining("Circuit breaker is open for kakao");
+        verify(execution, times(FAILURE_THRESHOLD)).execute(any(), any());
+
+        assertThat(count("IO_ERROR")).isEqualTo(FAILURE_THRESHOLD);
+        assertThat(count("REJECTED")).isEqualTo(1);
+
+    }
+
+    @Test
+    void serverErrorsCountAsFailures() throws Exception {
+
+        ClientHttpResponse response = response(HttpStatus.SERVICE_UNAVAILABLE);
+        when(execution.execute(any(), any())).thenReturn(response);
+
+        for (int attempt = 0; attempt < FAILURE_THRESHOLD; attempt++)
+            assertThat(intercept()).isSameAs(response);
+
+        assertThatThrownBy(() -> intercept()).isInstanceOf(IOException.class);
+        assertThat(count("SERVER_ERROR")).isEqualTo(FAILURE_THRESHOLD);
+
+    }
+
+    @Test
+    void successResetsFailureCount() throws Exception {
+
+        ClientHttpResponse success = response(HttpStatus.OK);
+        when(execution.execute(any(), any()))
+                .thenThrow(new IOException("reset"))
+                .thenThrow(new IOException("reset"))
+                .thenReturn(success)
+                .thenThrow(new IOException("reset"))
+                .thenThrow(new IOException("reset"))
+                .thenReturn(success);
+
+        for (int attempt = 0; attempt < 6; attempt++) {
+            try {
+                intercept();
+            } catch (IOException exception) {
+                assertThat(exception).hasMessage("reset");
+            }
+        }
+
+        verify(execution, times(6)).execute(any(), any());
+
+    }
+
+    @Test
+    void successfulTrialClosesCircuit() throws Exception {
+
+        open();
+
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        ClientHttpResponse success = response(HttpStatus.OK);
+        reset(execution);
+        when(execution.execute(any(), any())).thenReturn(success);
+
+        assertThat(intercept()).isSameAs(success);
+        assertThat(intercept()).isSameAs(success);
+
+    }
+
+    @Test
+    void failedTrialReopensCircuit() throws Exception {
+
+        open();
+
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        // 시험 요청 하나가 실패하면 실패 횟수와 상관없이 다시 열림
+        reset(execution);
+        when(execution.execute(any(), any())).thenThrow(new IOException("still down"));
+
+        assertThatThrownBy(() -> intercept()).hasMessage("still down");
+        assertThatThrownBy(() -> intercept()).hasMessageContaining("Circuit breaker is open");
+        verify(execution, times(1)).execute(any(), any());
+
+    }
+
+    @Test
+    void unexpectedExceptionDoesNotLeaveTrialRunning() throws Exception {
+
+        open();
+
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        reset(execution);
+        when(execution.execute(any(), any())).thenThrow(new IllegalStateException("bug"));
+        assertThatThrownBy(() -> intercept()).isInstanceOf(IllegalStateException.class);
+        assertThat(count("ERROR")).isEqualTo(1);
+
+        // 다시 열렸다가 시간이 지나면 다음 시험 요청이 허용되어야 함
+        Thread.sleep(OPEN_MILLIS + 50);
+
+        ClientHttpResponse success = response(HttpStatus.OK);
+        reset(execution);
+        when(execution.execute(any(), any())).thenReturn(success);
+
+        assertThat(intercept()).isSameAs(success);
+
+    }
+
+    @Test
+    void otherProvidersAreNotAffected() throws Exception {
+
+        open();
+
+        HttpRequest naverRequest = mock(HttpRequest.class);
+        when(naverRequest.getURI()).thenReturn(URI.create("https://nid.naver.com/oauth2.0/token"));
+        ClientHttpResponse success = response(HttpStatus.OK);
+        reset(execution);
+        when(execution.execute(any(), any())).thenReturn(success);
+
+        assertThat(oAuthClientInterceptor.intercept(naverRequest, new byte[0], execution)).isSameAs(success);
+        verify(execution, times(1)).execute(any(), any());
+
+    }
+
+    private void open() throws Exception {
+        when(execution.execute(any(), any())).thenThrow(new IOException("connect timed out"));
+        for (int attempt = 0; attempt < FAILURE_THRESHOLD; attempt++)
+            assertThatThrownBy(() -> intercept()).isInstanceOf(IOException.class);
+    }
+
+    private ClientHttpResponse intercept() throws IOException {
+        return oAuthClientInterceptor.intercept(request, new byte[0], execution);
+    }
+
+    private ClientHttpResponse response(HttpStatus status) throws IOException {
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getStatusCode()).thenReturn(status);
+        return response;
+    }
+
+    private long count(String outcome) {
+        return meterRegistry.get("oauth.client.requests").tag("provider", "kakao").tag("outcome", outcome).timer()
+                .count();
+    }
+
+}
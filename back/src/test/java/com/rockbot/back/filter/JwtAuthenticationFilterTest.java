@@ -0,0 +1,75 @@
+package com.rockbot.back.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.rockbot.back.provider.JwtKeyProvider;
+import com.rockbot.back.provider.JwtProvider;
+import com.rockbot.back.provider.PrincipalCacheProvider;
+
+import io.jsonwebtoken.Claims;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET_KEY = "filter-secret-key-filter-secret-key-filter";
+
+    private JwtProvider jwtProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(new JwtKeyProvider(SECRET_KEY, "default", ""));
+        PrincipalCacheProvider principalCacheProvider = mock(PrincipalCacheProvider.class);
+        when(principalCacheProvider.getRole(any(Claims.class))).thenReturn("ROLE_USER");
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProvider, principalCacheProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void accessTokenAuthenticates() throws Exception {
+
+        Authentication authentication = filter(jwtProvider.create("user1", "홍길동", 3, "ROLE_USER"));
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isEqualTo("user1");
+
+    }
+
+    @Test
+    void streamTokenDoesNotAuthenticate() throws Exception {
+        assertThat(filter(jwtProvider.createStreamToken("user1", 60))).isNull();
+    }
+
+    @Test
+    void refreshTokenDoesNotAuthenticate() throws Exception {
+        // refresh token은 서명되지 않은 임의 문자열
+        assertThat(filter("Vn3fQ1cV0o0bq2m7Yb1oE6zq1N1z8m4yXr9kQ2w5tHc")).isNull();
+    }
+
+    private Authentication filter(String token) throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/user/aa");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        return SecurityContextHolder.getContext().getAuthentication();
+
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.rockbot.back.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rockbot.back.provider.RateLimitProvider;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitFilter = new RateLimitFilter(new RateLimitProvider(1000, 10), new ObjectMapper(),
+                2, 1, 30, 60, 3, 3, 64);
+    }
+
+    @Test
+    void requestsOverIpLimitAreRejected() throws Exception {
+
+        assertThat(signIn("1.1.1.1", "user1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(signIn("1.1.1.1", "user2").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        MockHttpServletResponse response = signIn("1.1.1.1", "user3");
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+
+    }
+
+    @Test
+    void requestsOverUserLimitAreRejectedFromAnyIp() throws Exception {
+
+        assertThat(signIn("1.1.1.1", "user1").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(signIn("2.2.2.2", "user1").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        assertThat(signIn("3.3.3.3", "user1").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(signIn("3.3.3.3", "user2").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+    }
+
+    @Test
+    void bodyIsReadableAfterFilter() throws Exception {
+
+        String body = "{\"id\":\"user1\",\"password\":\"pw\"}";
+        MockFilterChain filterChain = new MockFilterChain();
+
+        rateLimitFilter.doFilter(request("1.1.1.1", body), new MockHttpServletResponse(), filterChain);
+
+        byte[] forwarded = filterChain.getRequest().getInputStream().readAllBytes();
+        assertThat(new String(forwarded, StandardCharsets.UTF_8)).isEqualTo(body);
+
+    }
+
+    @Test
+    void bodyOverLimitIsRejected() throws Exception {
+
+        MockHttpServletRequest request = request("1.1.1.1", "{\"id\":\"" + "a".repeat(100) + "\"}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        assertThat(filterChain.getRequest()).isNull();
+
+    }
+
+    @Test
+    void otherEndpointsAreNotLimited() throws Exception {
+
+        for (int index = 0; index < 5; index++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/sign-up");
+            request.setRemoteAddr("1.1.1.1");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            rateLimitFilter.doFilter(request, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+
+    }
+
+    private MockHttpServletResponse signIn(String remoteAddr, String userId) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request(remoteAddr, "{\"id\":\"" + userId + "\",\"password\":\"pw\"}"), response,
+                new MockFilterChain());
+        return response;
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/sign-in");
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+
+class JwtProviderTest {
+
+    private static final String OLD_SECRET = "old-secret-key-old-secret-key-old-secret";
+    private static final String NEW_SECRET = "new-secret-key-new-secret-key-new-secret";
+
+    @Test
+    void createdTokenCarriesClaims() {
+
+        JwtProvider jwtProvider = new JwtProvider(new JwtKeyProvider(NEW_SECRET, "k2", ""));
+
+        Claims claims = jwtProvider.parse(jwtProvider.create("user1", "홍길동", 3, "ROLE_ADMIN"));
+
+        assertThat(claims).isNotNull();
+        assertThat(claims.getSubject()).isEqualTo("user1");
+        assertThat(claims.get("role", String.class)).isEqualTo("ROLE_ADMIN");
+        assertThat(claims.get("departmentId", Integer.class)).isEqualTo(3);
+        assertThat(jwtProvider.isAccessToken(claims)).isTrue();
+
+    }
+
+    @Test
+    void tokenSignedWithRetiredKeyIsAcceptedWhileListedForVerification() {
+
+        JwtProvider oldProvider = new JwtProvider(new JwtKeyProvider(OLD_SECRET, "k1", ""));
+        String oldToken = oldProvider.create("user1", "홍길동", 3, "ROLE_USER");
+
+        JwtProvider rotatedProvider = new JwtProvider(new JwtKeyProvider(NEW_SECRET, "k2", "k1:" + OLD_SECRET));
+
+        assertThat(rotatedProvider.validate(oldToken)).isEqualTo("user1");
+        assertThat(oldProvider.validate(rotatedProvider.create("user2", "김철수", 1, "ROLE_USER"))).isNull();
+
+    }
+
+    @Test
+    void tokenSignedWithRemovedKeyIsRejected() {
+
+        JwtProvider oldProvider = new JwtProvider(new JwtKeyProvider(OLD_SECRET, "k1", ""));
+        String oldToken = oldProvider.create("user1", "홍길동", 3, "ROLE_USER");
+
+        JwtProvider rotatedProvider = new JwtProvider(new JwtKeyProvider(NEW_SECRET, "k2", ""));
+
+        assertThat(rotatedProvider.validate(oldToken)).isNull();
+
+    }
+
+    @Test
+    void tokenWithKnownKidButWrongSecretIsRejected() {
+
+        JwtProvider forgedProvider = new JwtProvider(new JwtKeyProvider(OLD_SECRET, "k2", ""));
+        String forgedToken = forgedProvider.create("user1", "홍길동", 3, "ROLE_ADMIN");
+
+        JwtProvider jwtProvider = new JwtProvider(new JwtKeyProvider(NEW_SECRET, "k2", ""));
+
+        assertThat(jwtProvider.validate(forgedToken)).isNull();
+
+    }
+
+    @Test
+    void streamTokenIsNotAnAccessToken() {
+
+        JwtProvider jwtProvider = new JwtProvider(new JwtKeyProvider(NEW_SECRET, "k2", ""));
+
+        String streamToken = jwtProvider.createStreamToken("user1", 60);
+        String accessToken = jwtProvider.create("user1", "홍길동", 3, "ROLE_USER");
+
+        assertThat(jwtProvider.validateStreamToken(streamToken)).isEqualTo("user1");
+        assertThat(jwtProvider.isAccessToken(jwtProvider.parse(streamToken))).isFalse();
+        assertThat(jwtProvider.validateStreamToken(accessToken)).isNull();
+
+    }
+
+    @Test
+    void expiredStreamTokenIsRejected() {
+
+        JwtProvider jwtProvider = new JwtProvider(new JwtKeyProvider(NEW_SECRET, "k2", ""));
+
+        assertThat(jwtProvider.validateStreamToken(jwtProvider.createStreamToken("user1", -1))).isNull();
+
+    }
+
+}
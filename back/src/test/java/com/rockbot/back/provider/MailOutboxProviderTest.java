@@ -0,0 +1,205 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.rockbot.back.entity.MailOutboxEntity;
+import com.rockbot.back.repository.MailOutboxRepository;
+
+import jakarta.mail.internet.MimeMessage;
+
+class MailOutboxProviderTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_SECONDS = 30;
+    private static final long LEASE_SECONDS = 300;
+
+    private MailOutboxRepository mailOutboxRepository;
+    private SmtpTransportPool smtpTransportPool;
+    private MailOutboxProvider mailOutboxProvider;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        mailOutboxRepository = mock(MailOutboxRepository.class);
+        smtpTransportPool = new SmtpTransportPool(javaMailSender, 2, 60, 100);
+        EmailProvider emailProvider = new EmailProvider(smtpTransportPool, mailOutboxRepository);
+
+        mailOutboxProvider = new MailOutboxProvider(emailProvider, mailOutboxRepository,
+                1, 10, 5, MAX_ATTEMPTS, BACKOFF_SECONDS, LEASE_SECONDS, 7);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxProvider.shutdown();
+        smtpTransportPool.shutdown();
+    }
+
+    @Test
+    void onlyClaimedMailIsSent() throws Exception {
+
+        // 2번은 다른 서버가 먼저 점유
+        when(mailOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(mailOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.claim(eq(2L), any(), any())).thenReturn(0);
+        when(mailOutboxRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(sending(1L, "user1@rockbot.com", 0)));
+
+        mailOutboxProvider.poll();
+
+        verify(mailOutboxRepository, timeout(5000))
+                .updateStatus(eq(1L), eq("Sent"), eq(1), any(), isNull(), any());
+        verify(mailOutboxRepository, never()).findAllById(List.of(1L, 2L));
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+        assertThat(receivedMessages).hasSize(1);
+        assertThat(receivedMessages[0].getAllRecipients()[0].toString()).isEqualTo("user1@rockbot.com");
+
+    }
+
+    @Test
+    void claimSetsLeaseUntilLeaseSeconds() {
+
+        when(mailOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+
+        mailOutboxProvider.poll();
+
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mailOutboxRepository).claim(eq(1L), now.capture(), leaseUntil.capture());
+        assertThat(leaseUntil.getValue()).isEqualTo(now.getValue().plusSeconds(LEASE_SECONDS));
+
+    }
+
+    @Test
+    void leaseIsRenewedBeforeSending() {
+
+        when(mailOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+        when(mailOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(sending(1L, "user1@rockbot.com", 0)));
+
+        mailOutboxProvider.poll();
+
+        verify(mailOutboxRepository, timeout(5000))
+                .updateStatus(eq(1L), eq("Sent"), anyInt(), any(), any(), any());
+
+        InOrder inOrder = inOrder(mailOutboxRepository);
+        inOrder.verify(mailOutboxRepository).renewLease(eq(List.of(1L)), any(), any());
+        inOrder.verify(mailOutboxRepository).updateStatus(eq(1L), eq("Sent"), anyInt(), any(), any(), any());
+
+    }
+
+    @Test
+    void mailWithExpiredLeaseIsNotSent() {
+
+        // 큐에서 기다리는 동안 점유 시간이 끝나 다른 poll이 가져갔을 수 있는 메일
+        MailOutboxEntity expired = new MailOutboxEntity(1L, "user1@rockbot.com", "subject", "content",
+                "Sending", 0, LocalDateTime.now().minusSeconds(1), null, LocalDateTime.now(), LocalDateTime.now());
+
+        when(mailOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+        when(mailOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findAllById(List.of(1L))).thenReturn(List.of(expired));
+
+        mailOutboxProvider.poll();
+
+        verify(mailOutboxRepository, after(500).never()).renewLease(anyList(), any(), any());
+        verify(mailOutboxRepository, never()).updateStatus(anyLong(), anyString(), anyInt(), any(), any(), any());
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+    }
+
+    @Test
+    void failedMailIsRetriedWithExponentialBackoff() {
+
+        // 주소 형식 오류로 발송 실패, 이전에 1번 실패한 메일이므로 30초 << 1 = 60초 뒤 재시도
+        when(mailOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(mailOutboxRepository.claim(anyLong(), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(sending(1L, "<user1@rockbot.com", 1), sending(2L, "user2@rockbot.com", 0)));
+
+        mailOutboxProvider.poll();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mailOutboxRepository, timeout(5000)).updateStatus(eq(1L), eq("Pending"), eq(2),
+                nextAttemptAt.capture(), anyString(), now.capture());
+        assertThat(nextAttemptAt.getValue()).isEqualTo(now.getValue().plusSeconds(BACKOFF_SECONDS << 1));
+
+        // 같은 묶음의 다른 메일은 정상 발송
+        verify(mailOutboxRepository, timeout(5000))
+                .updateStatus(eq(2L), eq("Sent"), eq(1), any(), isNull(), any());
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+
+    }
+
+    @Test
+    void mailIsDeadAfterMaxAttempts() {
+
+        when(mailOutboxRepository.findDueIds(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(1L));
+        when(mailOutboxRepository.claim(eq(1L), any(), any())).thenReturn(1);
+        when(mailOutboxRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(sending(1L, "<user1@rockbot.com", MAX_ATTEMPTS - 1)));
+
+        mailOutboxProvider.poll();
+
+        verify(mailOutboxRepository, timeout(5000))
+                .updateStatus(eq(1L), eq("Dead"), eq(MAX_ATTEMPTS), any(), anyString(), any());
+        verify(mailOutboxRepository, never()).updateStatus(eq(1L), eq("Pending"), anyInt(), any(), any(), any());
+
+    }
+
+    @Test
+    void finishedMailIsPurgedAfterRetention() {
+
+        mailOutboxProvider.purge();
+
+        ArgumentCaptor<LocalDateTime> before = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(mailOutboxRepository).deleteFinished(before.capture());
+        assertThat(before.getValue()).isBefore(LocalDateTime.now().minusDays(7).plusMinutes(1));
+
+    }
+
+    private MailOutboxEntity sending(Long id, String recipient, int attempts) {
+        LocalDateTime now = LocalDateTime.now();
+        return new MailOutboxEntity(id, recipient, "[ROCKBOT] 인증메일입니다.", "<h1>1234</h1>",
+                "Sending", attempts, now.plusSeconds(LEASE_SECONDS), null, now, now);
+    }
+
+}
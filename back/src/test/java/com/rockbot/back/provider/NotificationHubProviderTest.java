@@ -0,0 +1,174 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.rockbot.back.entity.NotificationEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationHubProviderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NotificationHubProvider notificationHubProvider;
+    private MockMvc mockMvc;
+
+    @RestController
+    class StreamController {
+
+        @GetMapping("/stream/{userId}")
+        public SseEmitter stream(@PathVariable("userId") String userId) {
+            return notificationHubProvider.subscribe(userId,
+                    () -> List.of(notification(1, userId, "backlog-" + userId)));
+        }
+
+    }
+
+    @BeforeEach
+    void setUp() {
+        notificationHubProvider = new NotificationHubProvider(meterRegistry, 2, 30, 100);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+        notificationHubProvider.shutdown();
+    }
+
+    @Test
+    void backlogIsSentBeforeNewNotifications() throws Exception {
+
+        MockHttpServletResponse response = subscribe("user1");
+        await(response, "backlog-user1");
+
+        notificationHubProvider.publish(notification(2, "user1", "approved-1"));
+
+        String content = await(response, "approved-1");
+        assertThat(content.indexOf("event:" + NotificationHubProvider.BACKLOG_EVENT))
+                .isLessThan(content.indexOf("event:" + NotificationHubProvider.NOTIFICATION_EVENT));
+
+    }
+
+    @Test
+    void notificationsReachOnlyTheirUser() throws Exception {
+
+        MockHttpServletResponse first = subscribe("user1");
+        MockHttpServletResponse second = subscribe("user2");
+        MockHttpServletResponse secondTab = subscribe("user2");
+
+        notificationHubProvider.publish(notification(2, "user2", "approved-2"));
+
+        await(second, "approved-2");
+        await(secondTab, "approved-2");
+
+        // 구독별 전송 순서가 유지되므로 heartbeat가 도착했다면 그 전에 보낸 알림도 도착했어야 함
+        notificationHubProvider.heartbeat();
+        assertThat(await(first, ":heartbeat")).doesNotContain("approved-2");
+
+    }
+
+    @Test
+    void notificationInTransactionIsSentAfterCommit() throws Exception {
+
+        MockHttpServletResponse response = subscribe("user1");
+
+        TransactionSynchronizationManager.initSynchronization();
+        notificationHubProvider.publish(notification(2, "user1", "approved-3"));
+
+        notificationHubProvider.heartbeat();
+        assertThat(await(response, ":heartbeat")).doesNotContain("approved-3");
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(await(response, "approved-3")).contains("approved-3");
+
+    }
+
+    @Test
+    void slowSubscriberIsDisconnected() throws Exception {
+
+        // 같은 이름의 게이지는 처음 등록한 허브에 묶이므로 별도 레지스트리 사용
+        SimpleMeterRegistry smallRegistry = new SimpleMeterRegistry();
+        NotificationHubProvider smallHub = new NotificationHubProvider(smallRegistry, 1, 30, 2);
+        SseEmitter emitter = smallHub.subscribe("user1", List::of);
+
+        // 전송은 emitter를 잠그므로 잠금을 쥐고 있는 동안에는 버퍼가 비워지지 않음
+        synchronized (emitter) {
+            for (int index = 0; index < 5; index++)
+                smallHub.heartbeat();
+        }
+
+        assertThat(smallRegistry.get("notification.hub.dropped").counter().count()).isEqualTo(1);
+        assertThat(smallRegistry.get("notification.hub.subscribers").gauge().value()).isZero();
+
+        smallHub.shutdown();
+
+    }
+
+    @Test
+    void failedBacklogRemovesSubscriber() {
+
+        assertThatThrownBy(() -> notificationHubProvider.subscribe("user1", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(subscriberCount()).isZero();
+
+    }
+
+    private MockHttpServletResponse subscribe(String userId) throws Exception {
+        return mockMvc.perform(get("/stream/" + userId))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    // 전송은 별도 스레드에서 이루어지므로 기대한 내용이 나타날 때까지 기다림
+    private String await(MockHttpServletResponse response, String expected) throws Exception {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString(StandardCharsets.UTF_8);
+        }
+
+        assertThat(content).contains(expected);
+        return content;
+
+    }
+
+    private double subscriberCount() {
+        return meterRegistry.get("notification.hub.subscribers").gauge().value();
+    }
+
+    private NotificationEntity notification(int notificationId, String userId, String message) {
+        return new NotificationEntity(notificationId, userId, message, "Unread",
+                new Timestamp(System.currentTimeMillis()));
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashProviderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashProvider passwordHashProvider;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashProvider.shutdown();
+    }
+
+    @Test
+    void encodedPasswordMatches() {
+
+        passwordHashProvider = new PasswordHashProvider(meterRegistry, 2, 8, 10000);
+
+        String encoded = passwordHashProvider.encode("passw0rd!");
+
+        assertThat(passwordHashProvider.matches("passw0rd!", encoded)).isTrue();
+        assertThat(passwordHashProvider.matches("wrong", encoded)).isFalse();
+
+    }
+
+    @Test
+    void fullQueueIsRejected() throws Exception {
+
+        passwordHashProvider = new PasswordHashProvider(meterRegistry, 1, 1, 10000);
+
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int index = 0; index < callers; index++) {
+            futures.add(callerPool.submit(() -> {
+                start.await();
+                try {
+                    passwordHashProvider.encode("passw0rd!");
+                } catch (RejectedExecutionException exception) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures)
+            future.get(30, TimeUnit.SECONDS);
+        callerPool.shutdown();
+
+        // 실행 중 1개와 큐 1개를 넘는 요청은 거절됨
+        assertThat(rejected.get()).isGreaterThan(0);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "queue-full").counter().count())
+                .isEqualTo(rejected.get());
+
+    }
+
+    @Test
+    void slowHashIsAbandonedAfterTimeout() {
+
+        passwordHashProvider = new PasswordHashProvider(meterRegistry, 1, 1, 1);
+
+        assertThatThrownBy(() -> passwordHashProvider.encode("passw0rd!"))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1);
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.rockbot.back.entity.UserEntity;
+import com.rockbot.back.repository.UserRepository;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PrincipalCacheProviderTest {
+
+    private static final String SECRET_KEY = "principal-secret-key-principal-secret-key";
+
+    private final JwtProvider jwtProvider = new JwtProvider(new JwtKeyProvider(SECRET_KEY, "default", ""));
+
+    private UserRepository userRepository;
+    private PrincipalCacheProvider principalCacheProvider;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByUserId("user1"))
+                .thenReturn(new UserEntity("user1", "hash", "홍길동", "user1@rockbot.com", "app", "ROLE_ADMIN", 3));
+        principalCacheProvider = new PrincipalCacheProvider(userRepository, new SimpleMeterRegistry(), 100, 600);
+    }
+
+    @Test
+    void roleClaimIsUsedWithoutDatabase() {
+
+        Claims claims = jwtProvider.parse(jwtProvider.create("user1", "홍길동", 3, "ROLE_USER"));
+
+        assertThat(principalCacheProvider.getRole(claims)).isEqualTo("ROLE_USER");
+        assertThat(principalCacheProvider.getRole(claims)).isEqualTo("ROLE_USER");
+        verify(userRepository, never()).findByUserId("user1");
+
+    }
+
+    @Test
+    void invalidatedUserIsReadFromDatabase() {
+
+        Claims claims = jwtProvider.parse(jwtProvider.create("user1", "홍길동", 3, "ROLE_USER"));
+        assertThat(principalCacheProvider.getRole(claims)).isEqualTo("ROLE_USER");
+
+        principalCacheProvider.invalidate("user1");
+
+        assertThat(principalCacheProvider.getRole(claims)).isEqualTo("ROLE_ADMIN");
+        assertThat(principalCacheProvider.getRole(claims)).isEqualTo("ROLE_ADMIN");
+        verify(userRepository, times(1)).findByUserId("user1");
+
+    }
+
+    @Test
+    void invalidatedUserListIsReadFromDatabase() {
+
+        Claims claims = jwtProvider.parse(jwtProvider.create("user1", "홍길동", 3, "ROLE_USER"));
+        assertThat(principalCacheProvider.getRole(claims)).isEqualTo("ROLE_USER");
+
+        principalCacheProvider.invalidate(List.of("user1", "user2"));
+
+        assertThat(principalCacheProvider.getRole(claims)).isEqualTo("ROLE_ADMIN");
+
+    }
+
+    @Test
+    void invalidateAllChecksEveryEarlierToken() {
+
+        Claims claims = jwtProvider.parse(jwtProvider.create("user1", "홍길동", 3, "ROLE_USER"));
+        assertThat(principalCacheProvider.getRole(claims)).isEqualTo("ROLE_USER");
+
+        principalCacheProvider.invalidateAll();
+
+        assertThat(principalCacheProvider.getRole(claims)).isEqualTo("ROLE_ADMIN");
+
+    }
+
+    @Test
+    void deletedUserHasNoRole() {
+
+        Claims claims = jwtProvider.parse(jwtProvider.create("ghost", "유령", 1, "ROLE_USER"));
+        principalCacheProvider.invalidate("ghost");
+
+        assertThat(principalCacheProvider.getRole(claims)).isNull();
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class RateLimitProviderTest {
+
+    private final RateLimitProvider rateLimitProvider = new RateLimitProvider(1000, 10);
+
+    @Test
+    void bucketIsExhaustedAfterCapacity() {
+
+        for (int index = 0; index < 3; index++)
+            assertThat(rateLimitProvider.tryConsume("sign-in:ip:1.1.1.1", 3, 1)).isZero();
+
+        // 분당 1개 충전이므로 다음 토큰까지 최대 60초
+        long retryAfter = rateLimitProvider.tryConsume("sign-in:ip:1.1.1.1", 3, 1);
+        assertThat(retryAfter).isBetween(1L, 60L);
+
+    }
+
+    @Test
+    void bucketsAreSeparatedByKey() {
+
+        assertThat(rateLimitProvider.tryConsume("sign-in:ip:1.1.1.1", 1, 1)).isZero();
+        assertThat(rateLimitProvider.tryConsume("sign-in:ip:1.1.1.1", 1, 1)).isPositive();
+
+        assertThat(rateLimitProvider.tryConsume("sign-in:ip:2.2.2.2", 1, 1)).isZero();
+        assertThat(rateLimitProvider.tryConsume("sign-in:user:user1", 1, 1)).isZero();
+
+    }
+
+    @Test
+    void bucketIsRefilledOverTime() throws Exception {
+
+        // 분당 6000개 = 10ms마다 1개
+        assertThat(rateLimitProvider.tryConsume("id-check:ip:1.1.1.1", 1, 6000)).isZero();
+        assertThat(rateLimitProvider.tryConsume("id-check:ip:1.1.1.1", 1, 6000)).isPositive();
+
+        Thread.sleep(50);
+
+        assertThat(rateLimitProvider.tryConsume("id-check:ip:1.1.1.1", 1, 6000)).isZero();
+
+    }
+
+    @Test
+    void concurrentCallersNeverExceedCapacity() throws Exception {
+
+        int capacity = 20;
+        int callers = 8;
+        int attemptsPerCaller = 50;
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int index = 0; index < callers; index++) {
+            futures.add(callerPool.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < attemptsPerCaller; attempt++) {
+                    if (rateLimitProvider.tryConsume("sign-in:ip:1.1.1.1", capacity, 1) == 0)
+                        granted.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures)
+            future.get(30, TimeUnit.SECONDS);
+        callerPool.shutdown();
+
+        // 테스트 시간 동안 충전되는 양은 1개 미만
+        assertThat(granted.get()).isEqualTo(capacity);
+
+    }
+
+}
@@ -0,0 +1,176 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * GreenMail을 상대로 연결 재사용과 처리량을 확인한다.
+ * 처리량은 환경에 따라 달라지므로 출력만 하고, 검증은 열린 연결 수로 한다.
+ */
+class SmtpTransportPoolTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private static final int MAX_CONNECTIONS = 4;
+
+    // connect()마다 한 번씩 호출되는 getProtocol()로 새 연결 수를 셈
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private JavaMailSenderImpl javaMailSender;
+    private SmtpTransportPool smtpTransportPool;
+
+    @BeforeEach
+    void setUp() {
+        javaMailSender = new JavaMailSenderImpl() {
+            @Override
+            public String getProtocol() {
+                connections.incrementAndGet();
+                return super.getProtocol();
+            }
+        };
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (smtpTransportPool != null)
+            smtpTransportPool.shutdown();
+    }
+
+    @Test
+    void connectionsAreReusedAcrossBulkSends() throws Exception {
+
+        smtpTransportPool = new SmtpTransportPool(javaMailSender, MAX_CONNECTIONS, 60, 1000);
+
+        int senders = 8;
+        int batchesPerSender = 5;
+        int batchSize = 20;
+        int total = senders * batchesPerSender * batchSize;
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService senderPool = Executors.newFixedThreadPool(senders);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int sender = 0; sender < senders; sender++) {
+            futures.add(senderPool.submit(() -> {
+                start.await();
+                for (int batch = 0; batch < batchesPerSender; batch++) {
+                    for (Exception exception : smtpTransportPool.send(messages(smtpTransportPool, batchSize)))
+                        if (exception != null)
+                            failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures)
+            future.get(60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        senderPool.shutdown();
+
+        assertThat(failures.get()).isZero();
+        assertThat(greenMail.waitForIncomingEmail(10000, total)).isTrue();
+        // 동시 발송 수가 max-connections로 제한되고, 한 번 맺은 연결은 다음 묶음에서 재사용
+        assertThat(connections.get()).isBetween(1, MAX_CONNECTIONS);
+
+        System.out.printf("pooled : %d messages, %d connections, %.0f messages/s%n",
+                total, connections.get(), total / (elapsedNanos / 1e9));
+
+    }
+
+    @Test
+    void pooledSendReusesOneConnectionUnlikeSendPerMessage() throws Exception {
+
+        int total = 200;
+        smtpTransportPool = new SmtpTransportPool(javaMailSender, 1, 60, 1000);
+
+        // 이전 방식 : JavaMailSender.send()는 메일마다 연결을 새로 맺음
+        long startedAt = System.nanoTime();
+        for (MimeMessage message : messages(smtpTransportPool, total))
+            javaMailSender.send(message);
+        long perMessageNanos = System.nanoTime() - startedAt;
+        int perMessageConnections = connections.getAndSet(0);
+
+        startedAt = System.nanoTime();
+        for (int batch = 0; batch < total / 20; batch++)
+            smtpTransportPool.send(messages(smtpTransportPool, 20));
+        long pooledNanos = System.nanoTime() - startedAt;
+
+        assertThat(greenMail.waitForIncomingEmail(10000, total * 2)).isTrue();
+        assertThat(perMessageConnections).isEqualTo(total);
+        assertThat(connections.get()).isEqualTo(1);
+
+        System.out.printf("connection per message : %.0f messages/s, pooled : %.0f messages/s%n",
+                total / (perMessageNanos / 1e9), total / (pooledNanos / 1e9));
+
+    }
+
+    @Test
+    void connectionIsReplacedAfterMaxMessages() throws Exception {
+
+        smtpTransportPool = new SmtpTransportPool(javaMailSender, 1, 60, 5);
+
+        Exception[] failures = smtpTransportPool.send(messages(smtpTransportPool, 12));
+
+        assertThat(failures).containsOnlyNulls();
+        assertThat(greenMail.waitForIncomingEmail(5000, 12)).isTrue();
+        assertThat(connections.get()).isEqualTo(3);
+
+    }
+
+    @Test
+    void idleConnectionIsEvicted() throws Exception {
+
+        smtpTransportPool = new SmtpTransportPool(javaMailSender, 1, 0, 100);
+
+        smtpTransportPool.send(messages(smtpTransportPool, 1));
+        smtpTransportPool.evictIdle();
+        smtpTransportPool.send(messages(smtpTransportPool, 1));
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 2)).isTrue();
+        assertThat(connections.get()).isEqualTo(2);
+
+    }
+
+    private List<MimeMessage> messages(SmtpTransportPool smtpTransportPool, int count) throws Exception {
+
+        List<MimeMessage> messages = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            MimeMessage message = smtpTransportPool.createMimeMessage();
+            MimeMessageHelper messageHelper = new MimeMessageHelper(message, true);
+            messageHelper.setFrom("noreply@rockbot.com");
+            messageHelper.setTo("user" + index + "@rockbot.com");
+            messageHelper.setSubject("[ROCKBOT] 알림");
+            messageHelper.setText("<p>" + index + "</p>", true);
+            messages.add(message);
+        }
+        return messages;
+
+    }
+
+}
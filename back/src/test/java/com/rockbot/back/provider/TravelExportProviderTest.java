@@ -0,0 +1,104 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rockbot.back.entity.TravelEntity;
+import com.rockbot.back.repository.TravelRequestRepository;
+
+import jakarta.persistence.EntityManager;
+
+class TravelExportProviderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private TravelRequestRepository travelRequestRepository;
+    private TravelExportProvider travelExportProvider;
+
+    @BeforeEach
+    void setUp() {
+        travelRequestRepository = mock(TravelRequestRepository.class);
+        travelExportProvider = new TravelExportProvider(travelRequestRepository, mock(EntityManager.class),
+                objectMapper);
+    }
+
+    @Test
+    void formulaCellsAreNeutralized() throws Exception {
+
+        String[] lines = exportCsv(
+                travel(1L, "=HYPERLINK(\"http://evil\",\"x\")", "+1+1"),
+                travel(2L, "-2+3", "@SUM(A1:A2)"),
+                travel(3L, "\t=1", "\r=1"));
+
+        assertThat(lines[1]).contains(",\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",");
+        assertThat(lines[1]).contains(",'+1+1,");
+        assertThat(lines[2]).contains(",'-2+3,'@SUM(A1:A2),");
+        assertThat(lines[3]).contains(",'\t=1,\"'\r=1\",");
+
+    }
+
+    @Test
+    void plainValuesAreWrittenAsIs() throws Exception {
+
+        String[] lines = exportCsv(travel(1L, "부산", "고객사 미팅, 계약"));
+
+        assertThat(lines[0]).isEqualTo("\uFEFFrequestId,userId,name,departmentId,destination,travelDate,returnDate,"
+                + "reason,status,submissionDate");
+        assertThat(lines[1]).isEqualTo("1,user1,홍길동,3,부산,2026-10-20,2026-10-22,\"고객사 미팅, 계약\",Pending,"
+                + "2026-10-18T09:30");
+
+    }
+
+    @Test
+    void ndjsonIsWrittenOneObjectPerLine() throws Exception {
+
+        when(travelRequestRepository.streamTravelRequests(null, null, null, null))
+                .thenReturn(Stream.of(travel(1L, "부산", "미팅"), travel(2L, "=1+1", "미팅")));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        travelExportProvider.export(TravelExportProvider.NDJSON, true, null, null, null, null, outputStream);
+
+        byte[] unzipped = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray())).readAllBytes();
+        String[] lines = new String(unzipped, StandardCharsets.UTF_8).split("\n");
+
+        assertThat(lines).hasSize(2);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("requestId").asLong()).isEqualTo(2);
+        // JSON 값은 수식으로 해석되지 않으므로 그대로 둠
+        assertThat(second.get("destination").asText()).isEqualTo("=1+1");
+
+    }
+
+    private String[] exportCsv(TravelEntity... travelEntities) throws Exception {
+
+        when(travelRequestRepository.streamTravelRequests(null, null, null, null))
+                .thenReturn(Stream.of(travelEntities));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        travelExportProvider.export(TravelExportProvider.CSV, false, null, null, null, null, outputStream);
+
+        return outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+
+    }
+
+    private TravelEntity travel(Long requestId, String destination, String reason) {
+        return new TravelEntity(requestId, "user1", 3, destination, LocalDate.of(2026, 10, 20),
+                LocalDate.of(2026, 10, 22), reason, "Pending", LocalDateTime.of(2026, 10, 18, 9, 30), "홍길동", 0L,
+                requestId);
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import com.rockbot.back.entity.TravelEntity;
+import com.rockbot.back.provider.TravelScheduleProvider.TravelSchedule;
+import com.rockbot.back.repository.TravelRequestRepository;
+import com.rockbot.back.repository.resultSet.TravelRequestChangeResultSet;
+
+class TravelScheduleProviderTest {
+
+    private final LocalDate today = LocalDate.now();
+
+    private TravelRequestRepository travelRequestRepository;
+    private TravelScheduleProvider travelScheduleProvider;
+
+    @BeforeEach
+    void setUp() {
+        travelRequestRepository = mock(TravelRequestRepository.class);
+        when(travelRequestRepository.getChangeSeq()).thenReturn(100L);
+        travelScheduleProvider = new TravelScheduleProvider(travelRequestRepository);
+    }
+
+    @Test
+    void overlapsMatchFullScan() {
+
+        // 무작위 일정으로 트리 조회 결과와 전체 비교 결과가 같은지 확인
+        Random random = new Random(42);
+        List<TravelEntity> travelEntities = new ArrayList<>();
+        for (long requestId = 1; requestId <= 2000; requestId++) {
+            LocalDate travelDate = today.plusDays(random.nextInt(365));
+            LocalDate returnDate = travelDate.plusDays(random.nextInt(15));
+            String status = random.nextInt(3) == 0 ? "Pending" : "Approved";
+            travelEntities.add(travel(requestId, "user" + random.nextInt(50), random.nextInt(5), travelDate,
+                    returnDate, status));
+        }
+        init(travelEntities);
+
+        for (int query = 0; query < 500; query++) {
+            int departmentId = random.nextInt(5);
+            LocalDate fromDate = today.plusDays(random.nextInt(380));
+            LocalDate toDate = fromDate.plusDays(random.nextInt(30));
+            boolean includePending = random.nextBoolean();
+
+            List<Long> expected = travelEntities.stream()
+                    .filter(travelEntity -> travelEntity.getDepartmentId() == departmentId)
+                    .filter(travelEntity -> includePending || "Approved".equals(travelEntity.getStatus()))
+                    .filter(travelEntity -> !travelEntity.getTravelDate().isAfter(toDate)
+                            && !travelEntity.getReturnDate().isBefore(fromDate))
+                    .sorted(Comparator.comparing(TravelEntity::getTravelDate).thenComparing(TravelEntity::getRequestId))
+                    .map(TravelEntity::getRequestId)
+                    .toList();
+
+            assertThat(requestIds(travelScheduleProvider.findByDepartment(departmentId, fromDate, toDate,
+                    includePending))).isEqualTo(expected);
+        }
+
+        verify(travelRequestRepository, never()).findOverlapListByDepartment(anyInt(), anyList(), any(),
+                any());
+
+    }
+
+    @Test
+    void boundaryDatesAreInclusive() {
+
+        init(List.of(travel(1L, "user1", 1, today.plusDays(10), today.plusDays(12), "Approved")));
+
+        assertThat(requestIds(travelScheduleProvider.findByDepartment(1, today.plusDays(12), today.plusDays(20),
+                true))).containsExactly(1L);
+        assertThat(requestIds(travelScheduleProvider.findByDepartment(1, today, today.plusDays(10), true)))
+                .containsExactly(1L);
+        assertThat(travelScheduleProvider.findByDepartment(1, today.plusDays(13), today.plusDays(20), true))
+                .isEmpty();
+
+    }
+
+    @Test
+    void userSchedulesAreIndexed() {
+
+        init(List.of(
+                travel(1L, "user1", 1, today.plusDays(1), today.plusDays(3), "Approved"),
+                travel(2L, "user1", 1, today.plusDays(10), today.plusDays(11), "Pending"),
+                travel(3L, "user2", 1, today.plusDays(1), today.plusDays(3), "Approved")));
+
+        assertThat(requestIds(travelScheduleProvider.findByUser("user1", today.plusDays(2), today.plusDays(10))))
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(travelScheduleProvider.findByUser("user3", today, today.plusDays(30))).isEmpty();
+
+    }
+
+    @Test
+    void changeFeedUpdatesIndex() {
+
+        init(List.of(
+                travel(1L, "user1", 1, today.plusDays(1), today.plusDays(3), "Pending"),
+                travel(2L, "user2", 1, today.plusDays(5), today.plusDays(6), "Pending")));
+
+        // 1번 거절, 2번 날짜 변경, 3번 다른 노드(챗봇)에서 새로 삽입
+        when(travelRequestRepository.findChangeList(eq(100L), eq(0L), any(Pageable.class))).thenReturn(List.of(
+                change(101, travel(1L, "user1", 1, today.plusDays(1), today.plusDays(3), "Rejected")),
+                change(102, travel(2L, "user2", 1, today.plusDays(20), today.plusDays(21), "Approved")),
+                change(103, travel(3L, "user3", 2, today.plusDays(2), null, "Pending"))));
+
+        travelScheduleProvider.sync();
+
+        assertThat(requestIds(travelScheduleProvider.findByDepartment(1, today, today.plusDays(10), true)))
+                .isEmpty();
+        assertThat(requestIds(travelScheduleProvider.findByDepartment(1, today, today.plusDays(30), false)))
+                .containsExactly(2L);
+        assertThat(requestIds(travelScheduleProvider.findByDepartment(2, today.plusDays(2), today.plusDays(2),
+                true))).containsExactly(3L);
+        assertThat(travelScheduleProvider.findByUser("user1", today, today.plusDays(30))).isEmpty();
+
+        // 다음 동기화는 마지막으로 반영한 위치부터
+        travelScheduleProvider.sync();
+        verify(travelRequestRepository).findChangeList(eq(103L), eq(3L), any(Pageable.class));
+
+    }
+
+    @Test
+    void fullChangePageIsFollowedByNextPage() {
+
+        init(List.of());
+
+        List<TravelRequestChangeResultSet> firstPage = new ArrayList<>();
+        for (long requestId = 1; requestId <= 500; requestId++)
+            firstPage.add(change(100 + requestId,
+                    travel(requestId, "user1", 1, today.plusDays(1), today.plusDays(2), "Approved")));
+        when(travelRequestRepository.findChangeList(eq(100L), eq(0L), any(Pageable.class))).thenReturn(firstPage);
+        when(travelRequestRepository.findChangeList(eq(600L), eq(500L), any(Pageable.class))).thenReturn(List.of(
+                change(601, travel(501L, "user1", 1, today.plusDays(1), today.plusDays(2), "Approved"))));
+
+        travelScheduleProvider.sync();
+
+        assertThat(travelScheduleProvider.findByDepartment(1, today, today.plusDays(5), true)).hasSize(501);
+
+    }
+
+    @Test
+    void endedTripsAreNotIndexedAndPastRangesUseDatabase() {
+
+        init(List.of(travel(1L, "user1", 1, today.minusDays(10), today.minusDays(5), "Approved")));
+
+        TravelEntity past = travel(1L, "user1", 1, today.minusDays(10), today.minusDays(5), "Approved");
+        when(travelRequestRepository.findOverlapListByDepartment(eq(1), anyList(), eq(today.minusDays(30)),
+                eq(today))).thenReturn(List.of(past));
+
+        assertThat(travelScheduleProvider.findByDepartment(1, today, today.plusDays(5), true)).isEmpty();
+        assertThat(requestIds(travelScheduleProvider.findByDepartment(1, today.minusDays(30), today, true)))
+                .containsExactly(1L);
+        verify(travelRequestRepository).findOverlapListByDepartment(eq(1), anyList(), eq(today.minusDays(30)),
+                eq(today));
+
+    }
+
+    @Test
+    void failedSyncKeepsCursor() {
+
+        init(List.of());
+
+        when(travelRequestRepository.findChangeList(anyLong(), anyLong(), any(Pageable.class)))
+                .thenThrow(new IllegalStateException("database down"));
+        travelScheduleProvider.sync();
+
+        verify(travelRequestRepository).findChangeList(eq(100L), eq(0L), any(Pageable.class));
+
+    }
+
+    private void init(List<TravelEntity> travelEntities) {
+        when(travelRequestRepository.findNotEndedList(anyList(), eq(today))).thenReturn(travelEntities);
+        travelScheduleProvider.init();
+    }
+
+    private List<Long> requestIds(List<TravelSchedule> schedules) {
+        return schedules.stream().map(TravelSchedule::requestId).toList();
+    }
+
+    private TravelEntity travel(Long requestId, String userId, int departmentId, LocalDate travelDate,
+            LocalDate returnDate, String status) {
+        return new TravelEntity(requestId, userId, departmentId, "부산", travelDate, returnDate, "미팅", status,
+                LocalDateTime.now(), "홍길동", 0L, 0L);
+    }
+
+    private TravelRequestChangeResultSet change(long changeSeq, TravelEntity travelEntity) {
+        return new TravelRequestChangeResultSet() {
+            public long getChangeSeq() { return changeSeq; }
+            public Long getRequestId() { return travelEntity.getRequestId(); }
+            public String getUserId() { return travelEntity.getUserId(); }
+            public String getName() { return travelEntity.getName(); }
+            public int getDepartmentId() { return travelEntity.getDepartmentId(); }
+            public String getDestination() { return travelEntity.getDestination(); }
+            public LocalDate getTravelDate() { return travelEntity.getTravelDate(); }
+            public LocalDate getReturnDate() { return travelEntity.getReturnDate(); }
+            public String getReason() { return travelEntity.getReason(); }
+            public String getStatus() { return travelEntity.getStatus(); }
+            public LocalDateTime getSubmissionDate() { return travelEntity.getSubmissionDate(); }
+            public Long getVersion() { return travelEntity.getVersion(); }
+        };
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.rockbot.back.entity.TravelStatsEntity;
+import com.rockbot.back.repository.TravelStatsRepository;
+
+class TravelStatsProviderTest {
+
+    private TravelStatsRepository travelStatsRepository;
+    private TravelStatsProvider travelStatsProvider;
+
+    @BeforeEach
+    void setUp() {
+        travelStatsRepository = mock(TravelStatsRepository.class);
+        when(travelStatsRepository.count()).thenReturn(3L);
+        when(travelStatsRepository.findAll()).thenReturn(List.of(
+                new TravelStatsEntity(1, "2026-09", "Approved", 2),
+                new TravelStatsEntity(1, "2026-10", "Approved", 3),
+                new TravelStatsEntity(2, "2026-10", "Pending", 1)));
+
+        travelStatsProvider = new TravelStatsProvider(travelStatsRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        travelStatsProvider.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void countsAreGroupedByMonthAndAllMonths() {
+
+        assertThat(travelStatsProvider.getCounts("2026-10", 1)).isEqualTo(Map.of("Approved", 3L));
+        assertThat(travelStatsProvider.getCounts(TravelStatsProvider.ALL_MONTHS, 1))
+                .isEqualTo(Map.of("Approved", 5L));
+        assertThat(travelStatsProvider.getCounts("2026-10")).containsOnlyKeys(1, 2);
+        assertThat(travelStatsProvider.getCounts("2026-01", 1)).isEmpty();
+
+    }
+
+    @Test
+    void copyIsReusedUntilInvalidated() {
+
+        travelStatsProvider.getCounts("2026-10", 1);
+        travelStatsProvider.getCounts("2026-10", 2);
+        verify(travelStatsRepository, times(1)).findAll();
+
+        travelStatsProvider.invalidate();
+
+        travelStatsProvider.getCounts("2026-10", 1);
+        travelStatsProvider.getCounts("2026-10", 2);
+        verify(travelStatsRepository, times(2)).findAll();
+
+    }
+
+    @Test
+    void invalidationInTransactionAppliesAfterCommit() {
+
+        TransactionSynchronizationManager.initSynchronization();
+        travelStatsProvider.invalidate();
+
+        // 커밋 전에는 트리거가 갱신한 값이 아직 보이지 않으므로 다시 읽지 않음
+        travelStatsProvider.getCounts("2026-10", 1);
+        verify(travelStatsRepository, times(1)).findAll();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        travelStatsProvider.getCounts("2026-10", 1);
+        verify(travelStatsRepository, times(2)).findAll();
+
+    }
+
+    @Test
+    void failedReloadKeepsPreviousCopy() {
+
+        when(travelStatsRepository.findAll()).thenThrow(new IllegalStateException("database down"));
+        travelStatsProvider.invalidate();
+
+        assertThat(travelStatsProvider.getCounts("2026-10", 1)).isEqualTo(Map.of("Approved", 3L));
+
+    }
+
+    @Test
+    void refreshReadsChangesFromOtherNodes() {
+
+        when(travelStatsRepository.findAll()).thenReturn(List.of(new TravelStatsEntity(1, "2026-10", "Approved", 4)));
+
+        travelStatsProvider.refresh();
+
+        assertThat(travelStatsProvider.getCounts("2026-10", 1)).isEqualTo(Map.of("Approved", 4L));
+        verify(travelStatsRepository, times(2)).findAll();
+
+    }
+
+    @Test
+    void reconcileRebuildsTableBeforeReloading() {
+
+        travelStatsProvider.reconcile();
+
+        InOrder inOrder = inOrder(travelStatsRepository);
+        inOrder.verify(travelStatsRepository).deleteAllRows();
+        inOrder.verify(travelStatsRepository).rebuild();
+        inOrder.verify(travelStatsRepository).findAll();
+
+    }
+
+    @Test
+    void emptyTableIsRebuiltOnStartup() {
+
+        TravelStatsRepository emptyRepository = mock(TravelStatsRepository.class);
+        when(emptyRepository.count()).thenReturn(0L);
+
+        new TravelStatsProvider(emptyRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)))
+                .init();
+
+        verify(emptyRepository).rebuild();
+
+    }
+
+}
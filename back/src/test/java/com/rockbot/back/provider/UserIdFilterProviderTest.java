@@ -0,0 +1,170 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.rockbot.back.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserIdFilterProviderTest {
+
+    private static final int USER_COUNT = 10000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserRepository userRepository;
+    // 사용자 테이블 역할 : 가입 시 INSERT 후 put 하는 순서를 테스트에서도 지킴
+    private Set<String> userIds;
+
+    @BeforeEach
+    void setUp() {
+        userIds = ConcurrentHashMap.newKeySet();
+        for (int index = 0; index < USER_COUNT; index++)
+            userIds.add("user" + index);
+
+        userRepository = mock(UserRepository.class);
+        when(userRepository.count()).thenAnswer(invocation -> (long) userIds.size());
+        when(userRepository.findAllUserIds()).thenAnswer(invocation -> new ArrayList<>(userIds));
+        when(userRepository.existsByUserId(anyString()))
+                .thenAnswer(invocation -> userIds.contains(invocation.<String>getArgument(0)));
+    }
+
+    @Test
+    void existingIdIsNeverReportedAbsent() {
+
+        UserIdFilterProvider userIdFilterProvider = create(USER_COUNT);
+
+        for (String userId : userIds)
+            assertThat(userIdFilterProvider.exists(userId)).isTrue();
+        // 대소문자만 다른 아이디는 필터에서 걸러지지 않고 DB로 확인
+        userIdFilterProvider.exists("USER1");
+        verify(userRepository).existsByUserId("USER1");
+
+    }
+
+    @Test
+    void absentIdIsMostlyAnsweredWithoutDatabase() {
+
+        UserIdFilterProvider userIdFilterProvider = create(USER_COUNT);
+
+        int checks = 10000;
+        for (int index = 0; index < checks; index++)
+            assertThat(userIdFilterProvider.exists("guest" + index)).isFalse();
+
+        double falsePositives = meterRegistry.get("userid.filter.false.positives").counter().count();
+        double absent = meterRegistry.get("userid.filter.checks").tag("result", "absent").counter().count();
+
+        // 설정한 오탐률의 3배 이내만 DB로 넘어감
+        assertThat(falsePositives).isLessThan(checks * FALSE_POSITIVE_RATE * 3);
+        assertThat(absent + falsePositives).isEqualTo(checks);
+
+    }
+
+    @Test
+    void putIdIsFoundWithoutRebuild() {
+
+        UserIdFilterProvider userIdFilterProvider = create(USER_COUNT);
+
+        userIds.add("NewUser");
+        userIdFilterProvider.put("NewUser");
+
+        assertThat(userIdFilterProvider.exists("NewUser")).isTrue();
+        verify(userRepository, times(1)).findAllUserIds();
+
+    }
+
+    @Test
+    void idsPutDuringRebuildAreKept() throws Exception {
+
+        UserIdFilterProvider userIdFilterProvider = create(USER_COUNT);
+
+        int writers = 4;
+        int idsPerWriter = 2000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService writerPool = Executors.newFixedThreadPool(writers + 1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            int offset = writer * idsPerWriter;
+            futures.add(writerPool.submit(() -> {
+                start.await();
+                for (int index = 0; index < idsPerWriter; index++) {
+                    userIds.add("signup" + (offset + index));
+                    userIdFilterProvider.put("signup" + (offset + index));
+                }
+                return null;
+            }));
+        }
+        futures.add(writerPool.submit(() -> {
+            start.await();
+            userIdFilterProvider.rebuild();
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> future : futures)
+            future.get(30, TimeUnit.SECONDS);
+        writerPool.shutdown();
+
+        for (int index = 0; index < writers * idsPerWriter; index++)
+            assertThat(userIdFilterProvider.exists("signup" + index)).isTrue();
+
+    }
+
+    @Test
+    void saturatedFilterIsRebuilt() {
+
+        UserIdFilterProvider userIdFilterProvider = create(100);
+        verify(userRepository, times(1)).findAllUserIds();
+
+        // 필터 크기는 max(100, 사용자 수 * 2) = 20000 : 넘지 않으면 재구성하지 않음
+        userIdFilterProvider.rebuildIfSaturated();
+        verify(userRepository, times(1)).findAllUserIds();
+
+        for (int index = 0; index < 20000; index++)
+            userIdFilterProvider.put("extra" + index);
+
+        userIdFilterProvider.rebuildIfSaturated();
+        verify(userRepository, times(2)).findAllUserIds();
+
+    }
+
+    @Test
+    void databaseIsUsedWhenFilterIsMissing() {
+
+        when(userRepository.findAllUserIds()).thenThrow(new IllegalStateException("database down"));
+        UserIdFilterProvider userIdFilterProvider = create(USER_COUNT);
+
+        assertThat(userIdFilterProvider.exists("user1")).isTrue();
+        assertThat(userIdFilterProvider.exists("guest")).isFalse();
+        verify(userRepository, times(2)).existsByUserId(anyString());
+
+    }
+
+    private UserIdFilterProvider create(long expectedInsertions) {
+        UserIdFilterProvider userIdFilterProvider = new UserIdFilterProvider(userRepository, meterRegistry,
+                expectedInsertions, FALSE_POSITIVE_RATE);
+        userIdFilterProvider.init();
+        return userIdFilterProvider;
+    }
+
+}
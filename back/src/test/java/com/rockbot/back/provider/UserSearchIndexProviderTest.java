@@ -0,0 +1,97 @@
+package com.rockbot.back.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.rockbot.back.provider.UserSearchIndexProvider.UserDocument;
+import com.rockbot.back.repository.UserRepository;
+import com.rockbot.back.repository.resultSet.UserListResultSet;
+
+class UserSearchIndexProviderTest {
+
+    private UserSearchIndexProvider userSearchIndexProvider;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        List<UserListResultSet> users = List.of(
+                document("kim", "김민수", "minsu@rockbot.com", 1),
+                document("kimchi", "이영희", "younghee@rockbot.com", 2),
+                document("lee", "박철수", "kim.cs@rockbot.com", 1),
+                document("park", "최지은", "jieun@rockbot.com", 3));
+        when(userRepository.findAllByOrderByUserId()).thenReturn(users);
+
+        userSearchIndexProvider = new UserSearchIndexProvider(userRepository);
+        userSearchIndexProvider.init();
+    }
+
+    @Test
+    void substringOfAnyFieldMatches() {
+
+        assertThat(userIds("rockbot", null, 10)).containsExactlyInAnyOrder("kim", "kimchi", "lee", "park");
+        assertThat(userIds("영희", null, 10)).containsExactly("kimchi");
+        assertThat(userIds("chi", null, 10)).containsExactly("kimchi");
+
+    }
+
+    @Test
+    void exactUserIdRanksFirst() {
+
+        // kim : 아이디 완전 일치, kimchi : 아이디 접두사, lee : 이메일 접두사
+        assertThat(userIds("kim", null, 10)).containsExactly("kim", "kimchi", "lee");
+        assertThat(userIds("KIM ", null, 10)).containsExactly("kim", "kimchi", "lee");
+
+    }
+
+    @Test
+    void shortQueryReturnsNothing() {
+        assertThat(userIds("k", null, 10)).isEmpty();
+    }
+
+    @Test
+    void resultsAreFilteredByDepartmentAndLimited() {
+
+        assertThat(userIds("kim", 1, 10)).containsExactly("kim", "lee");
+        assertThat(userIds("kim", null, 1)).containsExactly("kim");
+
+    }
+
+    @Test
+    void reindexedUserLosesOldTerms() {
+
+        userSearchIndexProvider.put(document("park", "정하늘", "haneul@rockbot.com", 3));
+
+        assertThat(userIds("지은", null, 10)).isEmpty();
+        assertThat(userIds("하늘", null, 10)).containsExactly("park");
+
+    }
+
+    @Test
+    void departmentChangesAreApplied() {
+
+        userSearchIndexProvider.updateDepartment(List.of("park"), 1);
+        assertThat(userIds("rockbot", 1, 10)).containsExactlyInAnyOrder("kim", "lee", "park");
+
+        userSearchIndexProvider.moveDepartment(1, 4);
+        assertThat(userIds("rockbot", 1, 10)).isEmpty();
+        assertThat(userIds("rockbot", 4, 10)).containsExactlyInAnyOrder("kim", "lee", "park");
+
+    }
+
+    private List<String> userIds(String query, Integer departmentId, int limit) {
+        return userSearchIndexProvider.search(query, departmentId, limit).stream()
+                .map(UserDocument::getUserId)
+                .toList();
+    }
+
+    private UserDocument document(String userId, String name, String email, int departmentId) {
+        return new UserDocument(userId, name, email, "app", "ROLE_USER", departmentId);
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.rockbot.back.provider.implement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MemoryCertificationStoreTest {
+
+    @Test
+    void matchingCodeIsVerified() {
+
+        MemoryCertificationStore certificationStore = new MemoryCertificationStore(5, 5);
+        certificationStore.save("user1", "user1@rockbot.com", "1234");
+
+        assertThat(certificationStore.verify("user1", "user1@rockbot.com", "1234")).isTrue();
+        assertThat(certificationStore.verify("user1", "user1@rockbot.com", "9999")).isFalse();
+        assertThat(certificationStore.verify("user1", "other@rockbot.com", "1234")).isFalse();
+        assertThat(certificationStore.verify("user2", "user1@rockbot.com", "1234")).isFalse();
+
+    }
+
+    @Test
+    void codeIsRejectedAfterMaxAttempts() {
+
+        MemoryCertificationStore certificationStore = new MemoryCertificationStore(5, 3);
+        certificationStore.save("user1", "user1@rockbot.com", "1234");
+
+        for (int attempt = 0; attempt < 3; attempt++)
+            assertThat(certificationStore.verify("user1", "user1@rockbot.com", "0000")).isFalse();
+
+        // 시도 횟수를 넘긴 뒤에는 맞는 번호도 거절
+        assertThat(certificationStore.verify("user1", "user1@rockbot.com", "1234")).isFalse();
+
+    }
+
+    @Test
+    void newCodeResetsAttempts() {
+
+        MemoryCertificationStore certificationStore = new MemoryCertificationStore(5, 1);
+        certificationStore.save("user1", "user1@rockbot.com", "1234");
+        assertThat(certificationStore.verify("user1", "user1@rockbot.com", "0000")).isFalse();
+
+        certificationStore.save("user1", "user1@rockbot.com", "5678");
+
+        assertThat(certificationStore.verify("user1", "user1@rockbot.com", "5678")).isTrue();
+
+    }
+
+    @Test
+    void expiredCodeIsRejected() {
+
+        MemoryCertificationStore certificationStore = new MemoryCertificationStore(0, 5);
+        certificationStore.save("user1", "user1@rockbot.com", "1234");
+
+        assertThat(certificationStore.verify("user1", "user1@rockbot.com", "1234")).isFalse();
+
+    }
+
+    @Test
+    void deletedCodeIsRejected() {
+
+        MemoryCertificationStore certificationStore = new MemoryCertificationStore(5, 5);
+        certificationStore.save("user1", "user1@rockbot.com", "1234");
+        certificationStore.delete("user1");
+
+        assertThat(certificationStore.verify("user1", "user1@rockbot.com", "1234")).isFalse();
+
+    }
+
+}
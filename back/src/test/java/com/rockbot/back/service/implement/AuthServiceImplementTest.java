@@ -0,0 +1,144 @@
+package com.rockbot.back.service.implement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.rockbot.back.dto.response.auth.RefreshResponseDto;
+import com.rockbot.back.entity.RefreshTokenEntity;
+import com.rockbot.back.entity.UserEntity;
+import com.rockbot.back.provider.CertificationStore;
+import com.rockbot.back.provider.EmailProvider;
+import com.rockbot.back.provider.JwtKeyProvider;
+import com.rockbot.back.provider.JwtProvider;
+import com.rockbot.back.provider.PasswordHashProvider;
+import com.rockbot.back.provider.RefreshTokenProvider;
+import com.rockbot.back.provider.UserIdFilterProvider;
+import com.rockbot.back.provider.UserSearchIndexProvider;
+import com.rockbot.back.repository.RefreshTokenRepository;
+import com.rockbot.back.repository.UserRepository;
+
+class AuthServiceImplementTest {
+
+    private static final String SECRET_KEY = "refresh-secret-key-refresh-secret-key-refresh";
+    private static final String REFRESH_TOKEN = "Vn3fQ1cV0o0bq2m7Yb1oE6zq1N1z8m4yXr9kQ2w5tHc";
+    private static final String FAMILY_ID = "family-1";
+
+    private final UserEntity userEntity =
+            new UserEntity("user1", "hash", "홍길동", "user1@rockbot.com", "app", "ROLE_USER", 3);
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenProvider refreshTokenProvider;
+    private JwtProvider jwtProvider;
+    private AuthServiceImplement authService;
+
+    private String tokenHash;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        refreshTokenProvider = new RefreshTokenProvider(refreshTokenRepository, userRepository);
+        ReflectionTestUtils.setField(refreshTokenProvider, "expirationDays", 14L);
+        jwtProvider = new JwtProvider(new JwtKeyProvider(SECRET_KEY, "default", ""));
+
+        authService = new AuthServiceImplement(userRepository, mock(CertificationStore.class), refreshTokenRepository,
+                mock(EmailProvider.class), jwtProvider, mock(PasswordHashProvider.class), refreshTokenProvider,
+                mock(UserSearchIndexProvider.class), mock(UserIdFilterProvider.class));
+
+        tokenHash = refreshTokenProvider.hash(REFRESH_TOKEN);
+    }
+
+    @Test
+    void unusedTokenIsRotatedWithinFamily() {
+
+        when(refreshTokenRepository.findWithUserByTokenHash(tokenHash)).thenReturn(entity(false, 1));
+        when(refreshTokenRepository.markUsed(tokenHash)).thenReturn(1);
+
+        ResponseEntity<?> response = authService.refresh(REFRESH_TOKEN);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        RefreshResponseDto responseBody = (RefreshResponseDto) response.getBody();
+        assertThat(jwtProvider.validate(responseBody.getToken())).isEqualTo("user1");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.SET_COOKIE)).contains("HttpOnly");
+
+        // 새 토큰은 같은 계열로 저장되고, 원래 토큰과 다른 값
+        ArgumentCaptor<RefreshTokenEntity> captor = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getFamilyId()).isEqualTo(FAMILY_ID);
+        assertThat(captor.getValue().getTokenHash()).isNotEqualTo(tokenHash);
+        verify(refreshTokenRepository, never()).deleteByFamilyId(anyString());
+
+    }
+
+    @Test
+    void reusedTokenRevokesFamily() {
+
+        when(refreshTokenRepository.findWithUserByTokenHash(tokenHash)).thenReturn(entity(true, 1));
+
+        ResponseEntity<?> response = authService.refresh(REFRESH_TOKEN);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(refreshTokenRepository).deleteByFamilyId(FAMILY_ID);
+        verify(refreshTokenRepository, never()).markUsed(anyString());
+        verify(refreshTokenRepository, never()).save(any());
+
+    }
+
+    @Test
+    void lostRotationRaceRevokesFamily() {
+
+        // 동시에 같은 토큰으로 요청해서 다른 요청이 먼저 used로 바꾼 경우
+        when(refreshTokenRepository.findWithUserByTokenHash(tokenHash)).thenReturn(entity(false, 1));
+        when(refreshTokenRepository.markUsed(tokenHash)).thenReturn(0);
+
+        ResponseEntity<?> response = authService.refresh(REFRESH_TOKEN);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(refreshTokenRepository).deleteByFamilyId(FAMILY_ID);
+        verify(refreshTokenRepository, never()).save(any());
+
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+
+        when(refreshTokenRepository.findWithUserByTokenHash(tokenHash)).thenReturn(entity(false, -1));
+
+        ResponseEntity<?> response = authService.refresh(REFRESH_TOKEN);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.SET_COOKIE)).contains("Max-Age=0");
+        verify(refreshTokenRepository, never()).markUsed(anyString());
+
+    }
+
+    @Test
+    void unknownOrMissingTokenIsRejected() {
+
+        assertThat(authService.refresh(REFRESH_TOKEN).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(authService.refresh(null).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(refreshTokenRepository, never()).deleteByFamilyId(anyString());
+
+    }
+
+    private RefreshTokenEntity entity(boolean used, long expiresInDays) {
+        LocalDateTime now = LocalDateTime.now();
+        return new RefreshTokenEntity(tokenHash, userEntity, FAMILY_ID, used, now.plusDays(expiresInDays), now);
+    }
+
+}
@@ -1,4 +1,5 @@
-import axios, { Axios, AxiosResponse } from "axios";
+import axios, { Axios, AxiosError, AxiosResponse, InternalAxiosRequestConfig } from "axios";
+import { Cookies } from "react-cookie";
 import { ResponseDto } from "./response";
 import { CheckCertificationRequestDto, EmailCertificationRequestDto, IdCheckRequestDto, SignInRequestDto, SignUpRequestDto } from "./request/auth";
 import { CheckCertificationResponsetDto, EmailCertificationResponseDto, IdCheckResponseDto, SignInResponseDto, SignUpResponseDto } from "./response/auth";
@@ -24,9 +25,92 @@ const SIGN_UP_URL = () => `${API_DOMAIN}/auth/sign-up`;
 const ID_CHECK_URL = () => `${API_DOMAIN}/auth/id-check`;
 const EMAIL_CERTIFICATION_URL = () => `${API_DOMAIN}/auth/email-certification`;
 const CHECK_CERTIFICATION_URL = () => `${API_DOMAIN}/auth/check-certification`;
+const REFRESH_URL = () => `${API_DOMAIN}/auth/refresh`;
+const SIGN_OUT_URL = () => `${API_DOMAIN}/auth/sign-out`;
+
+// refresh token은 서버가 HttpOnly 쿠키로 관리하므로 인증 요청은 자격 증명을 포함해서 전송
+const credentialClient = axios.create({ withCredentials: true });
+
+const cookies = new Cookies();
+const ACCESS_TOKEN_EXPIRES_KEY = 'accessTokenExpires';
+// 만료 1분 전부터 미리 토큰을 교체
+const REFRESH_MARGIN = 60 * 1000;
+
+export const saveAccessToken = (token: string, expirationTime: number) => {
+    const expires = new Date(new Date().getTime() + expirationTime * 1000);
+    cookies.set('accessToken', token, { expires, path: '/' });
+    localStorage.setItem(ACCESS_TOKEN_EXPIRES_KEY, String(expires.getTime()));
+};
+
+export const clearAccessToken = () => {
+    cookies.remove('accessToken', { path: '/' });
+    localStorage.removeItem(ACCESS_TOKEN_EXPIRES_KEY);
+};
+
+// 동시에 여러 요청이 만료를 감지해도 교체 요청은 한 번만 전송
+let refreshPromise: Promise<string | null> | null = null;
+
+export const refreshAccessToken = () => {
+    if (refreshPromise) return refreshPromise;
+    refreshPromise = credentialClient.post(REFRESH_URL())
+        .then(response => {
+            const { token, expirationTime } = response.data;
+            saveAccessToken(token, expirationTime);
+            return token as string;
+        })
+        .catch(() => {
+            clearAccessToken();
+            return null;
+        })
+        .finally(() => { refreshPromise = null; });
+    return refreshPromise;
+};
+
+const isAuthUrl = (url?: string) =>
+    !!url && [SIGN_IN_URL(), REFRESH_URL(), SIGN_OUT_URL()].some(authUrl => url.startsWith(authUrl));
+
+// 만료 직전이면 요청 전에 교체하고, 401/403 응답이면 교체 후 한 번만 다시 요청
+export const registerAuthInterceptors = () => {
+
+    axios.interceptors.request.use(async (config: InternalAxiosRequestConfig) => {
+        if (!config.url?.startsWith(DOMAIN) || isAuthUrl(config.url)) return config;
+        if (!config.headers.Authorization) return config;
+
+        const expires = Number(localStorage.getItem(ACCESS_TOKEN_EXPIRES_KEY));
+        if (expires && expires - new Date().getTime() < REFRESH_MARGIN) await refreshAccessToken();
+
+        // 화면에서 읽어 둔 토큰이 오래되었을 수 있으므로 현재 쿠키 값으로 교체
+        const token = cookies.get('accessToken');
+        if (token) config.headers.Authorization = `Bearer ${token}`;
+        return config;
+    });
+
+    axios.interceptors.response.use(response => response, async (error: AxiosError) => {
+        const config = error.config as (InternalAxiosRequestConfig & { isRetried?: boolean }) | undefined;
+        const status = error.response?.status;
+        if (!config || config.isRetried || isAuthUrl(config.url) || !config.headers.Authorization) throw error;
+        if (status !== 401 && status !== 403) throw error;
+
+        config.isRetried = true;
+        const token = await refreshAccessToken();
+        if (!token) throw error;
+
+        config.headers.Authorization = `Bearer ${token}`;
+        return axios(config);
+    });
+
+};
+
+export const signOutRequest = async () => {
+    const result = await credentialClient.post(SIGN_OUT_URL())
+        .then(responseHandler<ResponseDto>)
+        .catch(errorHandler);
+    clearAccessToken();
+    return result;
+};
 
 export const SignInRequest = async (requestBody: SignInRequestDto) => {
-    const result = await axios.post(SIGN_IN_URL(), requestBody)
+    const result = await credentialClient.post(SIGN_IN_URL(), requestBody)
         .then(responseHandler<SignInResponseDto>)
         .catch(errorHandler);
     return result;
@@ -3,6 +3,7 @@ import ResponseDto from "../response.dto";
 export default interface SignInResponseDto extends ResponseDto {
     token: string;
     expirationTime: number;
+    refreshExpirationTime: number;
     userId: string;
     name: string;
     departmentId: number;
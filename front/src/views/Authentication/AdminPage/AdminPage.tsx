@@ -1,8 +1,9 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useCookies } from 'react-cookie';
 import { Unlock, Moon, Sun } from 'lucide-react';
 import axios from 'axios';
+import { signOutRequest } from 'apis';
 import './AdminPage.css';
 
 interface User {
@@ -25,6 +26,11 @@ interface TravelRequest {
     fadingOut?: boolean;
 }
 
+const USER_PAGE_SIZE = 50;
+const TRAVEL_PAGE_SIZE = 200;
+const CHANGE_POLL_INTERVAL = 30 * 1000;
+const MIN_USER_QUERY_LENGTH = 2;
+
 // 부서 ID에 따른 부서 이름 설정 함수
 const getDepartmentName = (departmentId: number) => {
     switch (departmentId) {
@@ -65,7 +71,11 @@ const formatDate = (dateString: string) => {
 
 const AdminPage: React.FC = () => {
     const [travelRequests, setTravelRequests] = useState<TravelRequest[]>([]);
+    const [travelCursor, setTravelCursor] = useState<string | null>(null);
+    const changeCursorRef = useRef<string | null>(null);
     const [users, setUsers] = useState<User[]>([]);
+    const [userCursor, setUserCursor] = useState<string | null>(null);
+    const [userQuery, setUserQuery] = useState<string>('');
     const [cookies, , removeCookie] = useCookies(['name', 'accessToken']);
     const navigate = useNavigate();
     const [selectedMenu, setSelectedMenu] = useState<'travelList' | 'travelPending' | 'travelRequests' | 'users'>('travelList');
@@ -88,39 +98,90 @@ const AdminPage: React.FC = () => {
         return daysUntilReturn > 0 ? `${daysUntilReturn}일 전` : '오늘 복귀 예정';
     };
 
-    useEffect(() => {
+    // 출장 요청은 전체를 받지 않고 페이지 단위로 조회
+    const fetchTravelRequests = async (cursor: string | null) => {
+        try {
+            const response = await axios.get('http://localhost:4040/api/v1/auth/travel-requests/list', {
+                headers: {
+                    Authorization: `Bearer ${cookies.accessToken}`,
+                },
+                params: { cursor: cursor ?? undefined, size: TRAVEL_PAGE_SIZE },
+            });
+            const { travelRequestList, nextCursor, changeCursor } = response.data;
+            setTravelRequests((prevRequests) => (cursor ? [...prevRequests, ...travelRequestList] : travelRequestList));
+            setTravelCursor(nextCursor);
+            if (!cursor) changeCursorRef.current = changeCursor;
+        } catch (error) {
+            console.error('출장 요청 목록을 가져오는 중 오류 발생:', error);
+        }
+    };
 
-        const fetchTravelRequests = async () => {
-            try {
-                const response = await axios.get('http://localhost:4040/api/v1/auth/travel-requests', {
+    // 첫 페이지 이후 새로 들어오거나 상태가 바뀐 요청은 변경 피드로 반영
+    const fetchTravelRequestChanges = async () => {
+        if (!changeCursorRef.current) return;
+        try {
+            let hasMore = true;
+            while (hasMore) {
+                const response = await axios.get('http://localhost:4040/api/v1/auth/travel-requests/changes', {
                     headers: {
                         Authorization: `Bearer ${cookies.accessToken}`,
                     },
+                    params: { since: changeCursorRef.current, size: TRAVEL_PAGE_SIZE },
                 });
-                console.log('Fetched travel requests:', response.data);
-                setTravelRequests(response.data);
-            } catch (error) {
-                console.error('출장 요청 목록을 가져오는 중 오류 발생:', error);
-            }
-        };
-
-        const fetchUsers = async () => {
-            try {
-                const response = await axios.get('http://localhost:4040/api/v1/auth/all', {
-                    headers: {
-                        Authorization: `Bearer ${cookies.accessToken}`,
-                    },
+                const changes: TravelRequest[] = response.data.travelRequestList;
+                changeCursorRef.current = response.data.nextCursor;
+                hasMore = response.data.hasMore;
+
+                if (changes.length === 0) continue;
+                setTravelRequests((prevRequests) => {
+                    const changedById = new Map(changes.map((request) => [request.requestId, request]));
+                    const updated = prevRequests.map((request) => changedById.get(request.requestId) ?? request);
+                    const existingIds = new Set(prevRequests.map((request) => request.requestId));
+                    const added = changes.filter((request) => !existingIds.has(request.requestId));
+                    return [...added, ...updated];
                 });
-                setUsers(response.data);
-            } catch (error) {
-                console.error('회원 정보를 가져오는 중 오류 발생:', error);
             }
-        };
+        } catch (error) {
+            console.error('출장 요청 변경 내역을 가져오는 중 오류 발생:', error);
+        }
+    };
+
+    useEffect(() => {
+        fetchTravelRequests(null);
 
-        fetchTravelRequests();
-        fetchUsers();
+        const timer = setInterval(fetchTravelRequestChanges, CHANGE_POLL_INTERVAL);
+        return () => clearInterval(timer);
     }, [cookies.accessToken]);
 
+    // 회원 목록은 전체를 받지 않고 페이지 단위로 조회 (검색어가 있으면 검색 결과만 조회)
+    const fetchUsers = async (cursor: string | null, query: string) => {
+        try {
+            const headers = { Authorization: `Bearer ${cookies.accessToken}` };
+            const response = query.length >= MIN_USER_QUERY_LENGTH
+                ? await axios.get('http://localhost:4040/api/v1/auth/users/search', {
+                    headers, params: { query, limit: 50 },
+                })
+                : await axios.get('http://localhost:4040/api/v1/auth/users', {
+                    headers, params: { cursor: cursor ?? undefined, size: USER_PAGE_SIZE },
+                });
+            const { userList, nextCursor } = response.data;
+            setUsers((prevUsers) => (cursor ? [...prevUsers, ...userList] : userList));
+            setUserCursor(nextCursor);
+        } catch (error) {
+            console.error('회원 정보를 가져오는 중 오류 발생:', error);
+        }
+    };
+
+    useEffect(() => {
+        if (selectedMenu !== 'users') return;
+        const query = userQuery.trim();
+        if (query.length > 0 && query.length < MIN_USER_QUERY_LENGTH) return;
+
+        // 입력이 멈춘 뒤에 조회
+        const timer = setTimeout(() => fetchUsers(null, query), 300);
+        return () => clearTimeout(timer);
+    }, [selectedMenu, userQuery, cookies.accessToken]);
+
     const sendNotification = async (userId: string, message: string) => {
         console.log("Sending notification to userId:", userId, "with message:", message); // 확인용 로그
         try {
@@ -198,6 +259,7 @@ const handleReject = async (id: number, userId: string, submissionDate: string,
         removeCookie('name', { path: '/' });
         removeCookie('accessToken', { path: '/' });
         localStorage.removeItem('userInfo');
+        signOutRequest();
         navigate('/auth/sign-in');
     };
 
@@ -381,7 +443,19 @@ const handleReject = async (id: number, userId: string, submissionDate: string,
                 </div>
             )}
 
+            {selectedMenu !== 'users' && travelCursor && (
+                <button className="approve-button" onClick={() => fetchTravelRequests(travelCursor)}>더 보기</button>
+            )}
+
             {selectedMenu === 'users' && (
+                <div>
+                <input
+                    className="custom-select"
+                    type="text"
+                    placeholder={`아이디, 이름, 이메일 검색 (${MIN_USER_QUERY_LENGTH}자 이상)`}
+                    value={userQuery}
+                    onChange={(e) => setUserQuery(e.target.value)}
+                />
                 <div className="user-list-container">
                     {users
                         .filter((user) => user.userId !== 'Admin') // 관리자 계정 제외
@@ -404,6 +478,10 @@ const handleReject = async (id: number, userId: string, submissionDate: string,
                             </div>
                         ))}
                 </div>
+                {userCursor && userQuery.trim().length < MIN_USER_QUERY_LENGTH && (
+                    <button className="approve-button" onClick={() => fetchUsers(userCursor, '')}>더 보기</button>
+                )}
+                </div>
             )}
         </div>
     );
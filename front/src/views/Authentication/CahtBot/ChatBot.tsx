@@ -1,6 +1,7 @@
 import React, { useState, useEffect, useRef } from 'react';
 import { useLocation, useNavigate } from 'react-router-dom';
 import axios from 'axios';
+import { signOutRequest } from 'apis';
 import './ChatBot.css';
 import { Unlock, Moon, Sun, Send, Bell, BellRing } from 'lucide-react';
 import { useCookies } from 'react-cookie';
@@ -27,6 +28,9 @@ interface NotificationEntity {
   notificationDate: string;
 }
 
+// 알림 구독이 끊겼을 때 다시 연결하기까지 기다리는 시간 (ms)
+const STREAM_RECONNECT_DELAY = 3000;
+
 const ChatBot: React.FC = () => {
   const [question, setQuestion] = useState<string>('');
   const [isLoading, setIsLoading] = useState<boolean>(false);
@@ -105,14 +109,15 @@ const ChatBot: React.FC = () => {
 
       if (unreadNotifications.length > 0) {
         try {
-          await Promise.all(unreadNotifications.map(async (notification) => {
-            await axios.put(
-              `http://localhost:4040/api/v1/auth/notifications/${notification.notification_id}`, // notification_id로 참조
-              { status: 'Read' },
-              { headers: { Authorization: `Bearer ${cookies.accessToken}` } }
-            );
-          }));
-          await updateNotificationList();
+          // 표시한 알림을 한 번의 요청으로 읽음 처리
+          const readIds = new Set(unreadNotifications.map(notification => notification.notification_id));
+          await axios.put(
+            `http://localhost:4040/api/v1/auth/notifications/${profileInfo.userId}/read`,
+            { notificationIds: Array.from(readIds) },
+            { headers: { Authorization: `Bearer ${cookies.accessToken}` } }
+          );
+          // 읽음 처리한 알림은 목록에서 제외 (새 알림은 구독으로 전달됨)
+          setNotifications(prev => prev.filter(notification => !readIds.has(notification.notification_id)));
         } catch (error) {
           if (axios.isAxiosError(error)) {
             console.error("Axios error:", error.toJSON());
@@ -134,26 +139,67 @@ const ChatBot: React.FC = () => {
     }
   };
 
+  // 알림 실시간 구독 : 접속 시 미확인 알림(backlog)을 받고 이후 새 알림은 하나씩 추가
+  // EventSource는 헤더를 보낼 수 없어 짧게 유효한 접속 토큰을 받아 쿼리로 전달하고, 끊기면 새 토큰으로 다시 연결
   useEffect(() => {
-    if (profileInfo.userId) {
-      updateNotificationList();
-    }
-  }, [profileInfo.userId]);
+    if (!profileInfo.userId) return;
+
+    let eventSource: EventSource | null = null;
+    let retryTimer: ReturnType<typeof setTimeout> | null = null;
+    let closed = false;
+
+    const reconnect = () => {
+      if (closed || retryTimer) return;
+      retryTimer = setTimeout(() => {
+        retryTimer = null;
+        connect();
+      }, STREAM_RECONNECT_DELAY);
+    };
+
+    const connect = async () => {
+      try {
+        const response = await axios.post(
+          `http://localhost:4040/api/v1/auth/notifications/${profileInfo.userId}/stream-token`,
+          null,
+          { headers: { Authorization: `Bearer ${cookies.accessToken}` } }
+        );
+        if (closed) return;
+
+        eventSource = new EventSource(
+          `http://localhost:4040/api/v1/auth/notifications/${profileInfo.userId}/stream?token=${encodeURIComponent(response.data.token)}`
+        );
+
+        eventSource.addEventListener('backlog', (event) => {
+          const backlog: NotificationEntity[] = JSON.parse((event as MessageEvent).data);
+          setNotifications(backlog);
+        });
+
+        eventSource.addEventListener('notification', (event) => {
+          const notification: NotificationEntity = JSON.parse((event as MessageEvent).data);
+          setNotifications(prev =>
+            prev.some(item => item.notification_id === notification.notification_id) ? prev : [...prev, notification]
+          );
+        });
+
+        eventSource.onerror = (error) => {
+          console.error('알림 구독 연결 오류 (재연결):', error);
+          eventSource?.close();
+          reconnect();
+        };
+      } catch (error) {
+        console.error('알림 구독 토큰 발급 오류:', error);
+        reconnect();
+      }
+    };
 
-  // 알림 목록을 다시 가져오는 함수
-  const updateNotificationList = async () => {
-    const userId = profileInfo.userId || 'unknown_user';
-    try {
-      const response = await axios.get(
-        `http://localhost:4040/api/v1/auth/notifications/${userId}`,
-        { headers: { Authorization: `Bearer ${cookies.accessToken}` } }
-      );
-      setNotifications(response.data);
-      console.log("업데이트된 알림 목록:", response.data); // 업데이트된 알림 목록 출력
-    } catch (error) {
-      console.error('알림 목록을 다시 가져오는 중 오류 발생:', error);
-    }
-  };
+    connect();
+
+    return () => {
+      closed = true;
+      if (retryTimer) clearTimeout(retryTimer);
+      eventSource?.close();
+    };
+  }, [profileInfo.userId]);
 
   const handleInputChange = (e: React.ChangeEvent<HTMLInputElement>) => {
     setQuestion(e.target.value);
@@ -278,6 +324,7 @@ const ChatBot: React.FC = () => {
     removeCookie('name', { path: '/' });
     removeCookie('accessToken', { path: '/' });
     localStorage.removeItem('userInfo');
+    signOutRequest();
     navigate('/auth/sign-in');
   };
 
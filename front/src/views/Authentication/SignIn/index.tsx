@@ -3,7 +3,7 @@ import React, { useState, useRef, ChangeEvent, KeyboardEvent, useEffect } from '
 import './style.css';
 import { useNavigate } from 'react-router-dom';
 import { SignInRequestDto } from 'apis/request/auth';
-import { SignInRequest, SNS_SIGN_IN_URL } from 'apis';
+import { saveAccessToken, SignInRequest, SNS_SIGN_IN_URL } from 'apis';
 import { ResponseBody } from 'types';
 import { SignInResponseDto } from 'apis/response/auth';
 import { ResponseCode } from 'types/enums';
@@ -48,8 +48,8 @@ export default function SignIn() {
         const now = new Date().getTime();
         const expires = new Date(now + expirationTime * 1000);
     
-        // accessToken과 userId를 쿠키에 저장
-        setCookie('accessToken', token, { expires, path: '/' });
+        // accessToken과 userId를 쿠키에 저장 (refresh token은 서버가 HttpOnly 쿠키로 설정)
+        saveAccessToken(token, expirationTime);
         setCookie('userId', userId, { expires, path: '/' });
     
         // userInfo는 localStorage에 저장